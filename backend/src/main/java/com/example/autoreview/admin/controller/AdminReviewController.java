@@ -3,7 +3,10 @@ package com.example.autoreview.admin.controller;
 import com.example.autoreview.domain.ReviewStatus;
 import com.example.autoreview.publicsite.dto.response.ReviewDto;
 import com.example.autoreview.publicsite.dto.response.ReviewListResponse;
+import com.example.autoreview.publicsite.dto.response.ReviewSummaryDto;
 import com.example.autoreview.publicsite.service.ReviewService;
+import com.example.autoreview.publicsite.service.ReviewTrendingEngine;
+import com.example.autoreview.security.AuthenticatedUser;
 import com.example.autoreview.security.CurrentUserResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Min;
@@ -46,14 +49,18 @@ public class AdminReviewController {
     }
 
     @GetMapping("/most-viewed")
-    public ResponseEntity<List<ReviewDto>> mostViewed(@RequestParam(defaultValue = "5") @Min(1) int limit) {
+    public ResponseEntity<List<ReviewSummaryDto>> mostViewed(@RequestParam(defaultValue = "5") @Min(1) int limit) {
         return ResponseEntity.ok(reviewService.mostViewed(limit, null));
     }
 
+    @GetMapping("/trending")
+    public ResponseEntity<List<ReviewSummaryDto>> trending(@RequestParam(required = false) String window, @RequestParam(defaultValue = "5") @Min(1) int limit) {
+        return ResponseEntity.ok(reviewService.trending(ReviewTrendingEngine.Window.fromParam(window), limit, null));
+    }
+
     @PostMapping("/{id}/approve")
-    public ResponseEntity<Void> approve(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewService.approve(id, email, true);
+    public ResponseEntity<Void> approve(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        reviewService.approve(id, currentUserResolver.resolve(principal, request), true);
         return ResponseEntity.noContent().build();
     }
 
@@ -63,16 +70,14 @@ public class AdminReviewController {
     }
 
     @PostMapping("/{id}/reject")
-    public ResponseEntity<Void> reject(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewService.approve(id, email, false);
+    public ResponseEntity<Void> reject(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        reviewService.approve(id, currentUserResolver.resolve(principal, request), false);
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/{id}/restore")
-    public ResponseEntity<Void> restore(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewService.restoreRejected(id, email);
+    public ResponseEntity<Void> restore(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        reviewService.restoreRejected(id, currentUserResolver.resolve(principal, request));
         return ResponseEntity.noContent().build();
     }
 }
@@ -5,6 +5,7 @@ import com.example.autoreview.admin.dto.request.UpdateUserRequest;
 import com.example.autoreview.admin.dto.request.UpdateUserRolesRequest;
 import com.example.autoreview.admin.dto.response.AdminUserDto;
 import com.example.autoreview.admin.service.AdminUserService;
+import com.example.autoreview.security.AuthenticatedUser;
 import com.example.autoreview.security.CurrentUserResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -34,43 +35,43 @@ public class AdminUserController {
     }
 
     @GetMapping
-    public ResponseEntity<List<AdminUserDto>> list(@AuthenticationPrincipal Object principal, HttpServletRequest httpServletRequest) {
+    public ResponseEntity<List<AdminUserDto>> list(@AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest httpServletRequest) {
         String email = currentUserResolver.resolveEmail(principal, httpServletRequest);
         return ResponseEntity.ok(adminUserService.listUsers(email));
     }
 
     @GetMapping("/deleted")
-    public ResponseEntity<List<AdminUserDto>> deleted(@AuthenticationPrincipal Object principal, HttpServletRequest httpServletRequest) {
+    public ResponseEntity<List<AdminUserDto>> deleted(@AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest httpServletRequest) {
         String email = currentUserResolver.resolveEmail(principal, httpServletRequest);
         return ResponseEntity.ok(adminUserService.listDeletedUsers(email));
     }
 
     @PostMapping
-    public ResponseEntity<AdminUserDto> create(@Valid @RequestBody CreateUserRequest request, @AuthenticationPrincipal Object principal, HttpServletRequest httpServletRequest) {
+    public ResponseEntity<AdminUserDto> create(@Valid @RequestBody CreateUserRequest request, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest httpServletRequest) {
         String email = currentUserResolver.resolveEmail(principal, httpServletRequest);
         return ResponseEntity.status(HttpStatus.CREATED).body(adminUserService.createUser(email, request));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<AdminUserDto> update(@PathVariable Long id, @Valid @RequestBody UpdateUserRequest request, @AuthenticationPrincipal Object principal, HttpServletRequest httpServletRequest) {
+    public ResponseEntity<AdminUserDto> update(@PathVariable Long id, @Valid @RequestBody UpdateUserRequest request, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest httpServletRequest) {
         String email = currentUserResolver.resolveEmail(principal, httpServletRequest);
         return ResponseEntity.ok(adminUserService.updateUser(email, id, request));
     }
 
     @PutMapping("/{id}/roles")
-    public ResponseEntity<AdminUserDto> updateRoles(@PathVariable Long id, @Valid @RequestBody UpdateUserRolesRequest request, @AuthenticationPrincipal Object principal, HttpServletRequest httpServletRequest) {
+    public ResponseEntity<AdminUserDto> updateRoles(@PathVariable Long id, @Valid @RequestBody UpdateUserRolesRequest request, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest httpServletRequest) {
         String email = currentUserResolver.resolveEmail(principal, httpServletRequest);
         return ResponseEntity.ok(adminUserService.updateRoles(email, id, request.getRoles()));
     }
 
     @PostMapping("/{id}/restore")
-    public ResponseEntity<AdminUserDto> restore(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest httpServletRequest) {
+    public ResponseEntity<AdminUserDto> restore(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest httpServletRequest) {
         String email = currentUserResolver.resolveEmail(principal, httpServletRequest);
         return ResponseEntity.ok(adminUserService.restoreUser(email, id));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest httpServletRequest) {
+    public ResponseEntity<Void> delete(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest httpServletRequest) {
         String email = currentUserResolver.resolveEmail(principal, httpServletRequest);
         adminUserService.deleteUser(email, id);
         return ResponseEntity.noContent().build();
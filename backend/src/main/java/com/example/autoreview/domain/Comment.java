@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -14,7 +15,10 @@ import org.hibernate.annotations.NotFound;
 import org.hibernate.annotations.NotFoundAction;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_review_parent_created", columnList = "review_id, parent_id, created_at"),
+        @Index(name = "idx_comments_root_created", columnList = "root_id, created_at")
+})
 public class Comment {
 
     @Id
@@ -39,6 +43,9 @@ public class Comment {
     @JoinColumn(name = "parent_id")
     private Comment parent;
 
+    @Column(name = "root_id")
+    private Long rootId;
+
     @Column(nullable = false)
     private boolean anonymous;
 
@@ -93,6 +100,14 @@ public class Comment {
         this.parent = parent;
     }
 
+    public Long getRootId() {
+        return rootId;
+    }
+
+    public void setRootId(Long rootId) {
+        this.rootId = rootId;
+    }
+
     public boolean isAnonymous() {
         return anonymous;
     }
@@ -1,17 +1,23 @@
 package com.example.autoreview.domain;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.time.Instant;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_recipient_aggregate", columnList = "recipient_id, aggregate_key, window_start"),
+        @Index(name = "idx_notifications_recipient_created_id", columnList = "recipient_id, created_at, id"),
+        @Index(name = "idx_notifications_recipient_updated_id", columnList = "recipient_id, updated_at, id")
+})
 public class Notification {
 
     @Id
@@ -42,6 +48,18 @@ public class Notification {
 
     private Instant createdAt;
 
+    private Instant updatedAt;
+
+    @Column(name = "aggregate_key", length = 80)
+    private String aggregateKey;
+
+    private Integer actorCount;
+
+    @Column(length = 255)
+    private String sampleActorIds;
+
+    private Instant windowStart;
+
     public Long getId() {
         return id;
     }
@@ -113,4 +131,44 @@ public class Notification {
     public void setCreatedAt(Instant createdAt) {
         this.createdAt = createdAt;
     }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public String getAggregateKey() {
+        return aggregateKey;
+    }
+
+    public void setAggregateKey(String aggregateKey) {
+        this.aggregateKey = aggregateKey;
+    }
+
+    public Integer getActorCount() {
+        return actorCount;
+    }
+
+    public void setActorCount(Integer actorCount) {
+        this.actorCount = actorCount;
+    }
+
+    public String getSampleActorIds() {
+        return sampleActorIds;
+    }
+
+    public void setSampleActorIds(String sampleActorIds) {
+        this.sampleActorIds = sampleActorIds;
+    }
+
+    public Instant getWindowStart() {
+        return windowStart;
+    }
+
+    public void setWindowStart(Instant windowStart) {
+        this.windowStart = windowStart;
+    }
 }
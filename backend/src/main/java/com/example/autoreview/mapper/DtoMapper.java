@@ -4,6 +4,7 @@ import com.example.autoreview.publicsite.dto.response.BrandDto;
 import com.example.autoreview.publicsite.dto.response.CommentDto;
 import com.example.autoreview.publicsite.dto.response.NotificationDto;
 import com.example.autoreview.publicsite.dto.response.ReviewDto;
+import com.example.autoreview.publicsite.dto.response.ReviewSummaryDto;
 import com.example.autoreview.publicsite.dto.response.ReviewerDto;
 import com.example.autoreview.publicsite.dto.response.UserProfileDto;
 import com.example.autoreview.domain.Comment;
@@ -11,6 +12,7 @@ import com.example.autoreview.domain.Notification;
 import com.example.autoreview.domain.Review;
 import com.example.autoreview.domain.User;
 import com.example.autoreview.domain.VehicleBrand;
+import com.example.autoreview.repository.projection.ReviewSummary;
 
 public class DtoMapper {
 
@@ -55,6 +57,38 @@ public class DtoMapper {
             dto.setAuthorUsername(review.getAuthor().getUsername());
             dto.setAuthorFollowers(review.getAuthor().getFollowers());
             dto.setAuthorRating(review.getAuthor().getRating());
+            dto.setAuthorReviewCount(review.getAuthor().getReviewCount());
+            dto.setAuthorBio(null);
+        }
+        return dto;
+    }
+
+    public static ReviewSummaryDto toReviewSummaryDto(ReviewSummary summary) {
+        ReviewSummaryDto dto = new ReviewSummaryDto();
+        dto.setId(summary.getId());
+        dto.setTitle(summary.getTitle());
+        dto.setExcerpt(summary.getExcerpt());
+        dto.setHeroImageUrl(summary.getHeroImageUrl());
+        dto.setSlug(summary.getSlug());
+        dto.setBrand(summary.getBrandName());
+        dto.setVehicleModel(summary.getVehicleModel());
+        dto.setVehicleYear(summary.getVehicleYear());
+        dto.setLikes(summary.getLikes());
+        dto.setCommentsCount(summary.getCommentsCount());
+        dto.setViews(summary.getViews());
+        dto.setFuelType(summary.getFuelType());
+        dto.setPriceSegment(summary.getPriceSegment());
+        dto.setCreatedAt(summary.getCreatedAt());
+        dto.setPublishedAt(summary.getPublishedAt());
+        dto.setStatus(summary.getStatus() != null ? summary.getStatus().name() : null);
+        if (summary.getAuthorId() != null) {
+            dto.setAuthorId(summary.getAuthorId());
+            dto.setAuthorName(summary.getAuthorUsername());
+            dto.setAuthorAvatar(summary.getAuthorAvatar());
+            dto.setAuthorUsername(summary.getAuthorUsername());
+            dto.setAuthorFollowers(summary.getAuthorFollowers());
+            dto.setAuthorRating(summary.getAuthorRating());
+            dto.setAuthorReviewCount(summary.getAuthorReviewCount());
             dto.setAuthorBio(null);
         }
         return dto;
@@ -68,12 +102,14 @@ public class DtoMapper {
         dto.setAnonymous(comment.isAnonymous());
         dto.setParentId(comment.getParent() != null ? comment.getParent().getId() : null);
         dto.setLikes(comment.getLikes());
-        if (!comment.isAnonymous() && comment.getAuthor() != null) {
+        if (!comment.isAnonymous() && comment.getAuthor() != null && !comment.getAuthor().isDeleted()) {
+            dto.setAuthorId(comment.getAuthor().getId());
             dto.setAuthorName(comment.getAuthor().getUsername());
             dto.setAuthorAvatar(comment.getAuthor().getAvatarUrl());
             dto.setAuthorUsername(comment.getAuthor().getUsername());
             dto.setAuthorFollowers(comment.getAuthor().getFollowers());
             dto.setAuthorRating(comment.getAuthor().getRating());
+            dto.setAuthorReviewCount(comment.getAuthor().getReviewCount());
 //            TODO BIO
             dto.setAuthorBio(null);
         }
@@ -88,6 +124,7 @@ public class DtoMapper {
         dto.setAvatarUrl(user.getAvatarUrl());
         dto.setFollowers(user.getFollowers());
         dto.setRating(user.getRating());
+        dto.setReviewCount(user.getReviewCount());
         dto.setBio(null);
         return dto;
     }
@@ -107,6 +144,8 @@ public class DtoMapper {
         dto.setMessage(notification.getMessage());
         dto.setRead(notification.isReadFlag());
         dto.setCreatedAt(notification.getCreatedAt());
+        dto.setUpdatedAt(notification.getUpdatedAt() != null ? notification.getUpdatedAt() : notification.getCreatedAt());
+        dto.setActorCount(notification.getActorCount() != null ? notification.getActorCount() : 1);
         if (notification.getReview() != null) {
             dto.setReviewId(notification.getReview().getId());
             dto.setReviewSlug(notification.getReview().getSlug());
@@ -1,5 +1,6 @@
 package com.example.autoreview.publicsite.controller;
 
+import com.example.autoreview.security.AuthenticatedUser;
 import com.example.autoreview.security.CurrentUserResolver;
 import com.example.autoreview.publicsite.service.ReviewService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,23 +25,22 @@ public class CommentController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewService.deleteComment(id, email);
+    public ResponseEntity<Void> delete(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        reviewService.deleteComment(id, currentUserResolver.resolve(principal, request));
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/{id}/like")
-    public ResponseEntity<Void> like(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewService.likeComment(id, email);
+    public ResponseEntity<Void> like(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        reviewService.likeComment(id, userId);
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/{id}/unlike")
-    public ResponseEntity<Void> unlike(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewService.unlikeComment(id, email);
+    public ResponseEntity<Void> unlike(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        reviewService.unlikeComment(id, userId);
         return ResponseEntity.noContent().build();
     }
 }
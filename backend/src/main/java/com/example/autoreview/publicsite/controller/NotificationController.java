@@ -1,19 +1,22 @@
 package com.example.autoreview.publicsite.controller;
 
-import com.example.autoreview.publicsite.dto.response.NotificationDto;
+import com.example.autoreview.publicsite.dto.response.NotificationListResponse;
 import com.example.autoreview.publicsite.service.NotificationService;
+import com.example.autoreview.security.AuthenticatedUser;
 import com.example.autoreview.security.CurrentUserResolver;
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.List;
 import java.util.Map;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/notifications")
@@ -28,29 +31,35 @@ public class NotificationController {
     }
 
     @GetMapping
-    public ResponseEntity<List<NotificationDto>> list(@AuthenticationPrincipal Object principal, HttpServletRequest request, @RequestParam(defaultValue = "20") int limit) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(notificationService.list(email, limit));
+    public ResponseEntity<NotificationListResponse> list(@AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request, @RequestParam(required = false) String before, @RequestParam(defaultValue = "20") int limit) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(notificationService.list(userId, before, limit));
     }
 
     @GetMapping("/unread-count")
-    public ResponseEntity<Map<String, Long>> unreadCount(@AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        long count = notificationService.countUnread(email);
+    public ResponseEntity<Map<String, Long>> unreadCount(@AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        long count = notificationService.countUnread(userId);
         return ResponseEntity.ok(Map.of("count", count));
     }
 
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request, @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(notificationService.openStream(userId, lastEventId));
+    }
+
     @PostMapping("/{id}/read")
-    public ResponseEntity<Void> markRead(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        notificationService.markRead(id, email);
+    public ResponseEntity<Void> markRead(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        notificationService.markRead(id, userId);
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/read-all")
-    public ResponseEntity<Void> markAllRead(@AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        notificationService.markAllRead(email);
+    public ResponseEntity<Void> markAllRead(@AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request, @RequestParam(required = false) Long upTo) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        notificationService.markAllRead(userId, upTo);
         return ResponseEntity.noContent().build();
     }
 }
@@ -5,13 +5,19 @@ import com.example.autoreview.publicsite.dto.request.CreateCommentRequest;
 import com.example.autoreview.publicsite.dto.request.CreateReviewRequest;
 import com.example.autoreview.publicsite.dto.response.ReviewDto;
 import com.example.autoreview.publicsite.dto.response.ReviewListResponse;
+import com.example.autoreview.publicsite.dto.response.ReviewSummaryDto;
+import com.example.autoreview.publicsite.dto.response.SuggestionDto;
 import com.example.autoreview.publicsite.dto.request.UpdateReviewRequest;
+import com.example.autoreview.security.AuthenticatedUser;
 import com.example.autoreview.security.CurrentUserResolver;
 import com.example.autoreview.publicsite.service.ReviewService;
+import com.example.autoreview.publicsite.service.ReviewTrendingEngine;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.regex.Pattern;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -28,6 +34,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/reviews")
 public class ReviewController {
 
+    private static final Pattern BOT_USER_AGENT = Pattern.compile("bot|crawl|spider|slurp|preview|headless", Pattern.CASE_INSENSITIVE);
+
     private final ReviewService reviewService;
     private final CurrentUserResolver currentUserResolver;
 
@@ -38,139 +46,165 @@ public class ReviewController {
 
     @GetMapping
     public ResponseEntity<ReviewListResponse> feed(
-            @AuthenticationPrincipal Object principal,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             HttpServletRequest request,
             @RequestParam(required = false) String brand,
             @RequestParam(required = false) String fuelType,
             @RequestParam(required = false) String priceSegment,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewService.getFeed(brand, fuelType, priceSegment, page, size, email));
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean facets) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        if (cursor != null) {
+            return ResponseEntity.ok(reviewService.getFeedByCursor(brand, fuelType, priceSegment, cursor, size, userId));
+        }
+        return ResponseEntity.ok(reviewService.getFeed(brand, fuelType, priceSegment, page, size, userId, facets));
     }
 
     @GetMapping("/search")
     public ResponseEntity<ReviewListResponse> search(
-            @AuthenticationPrincipal Object principal,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             HttpServletRequest request,
             @RequestParam(name = "q", required = false) String query,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewService.search(query, page, size, email));
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean facets) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewService.search(query, page, size, userId, facets));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggest(@RequestParam(name = "q", required = false) String query, @RequestParam(defaultValue = "8") int limit) {
+        return ResponseEntity.ok(reviewService.suggest(query, limit));
     }
 
     @GetMapping("/mine")
     public ResponseEntity<ReviewListResponse> mine(
-            @AuthenticationPrincipal Object principal,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             HttpServletRequest request,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewService.listByAuthor(email, page, size));
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewService.listByAuthor(userId, page, size));
     }
 
     @GetMapping("/most-viewed")
-    public ResponseEntity<List<ReviewDto>> mostViewed(@RequestParam(defaultValue = "5") int limit, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewService.mostViewed(limit, email));
+    public ResponseEntity<List<ReviewSummaryDto>> mostViewed(@RequestParam(defaultValue = "5") int limit, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewService.mostViewed(limit, userId));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<ReviewSummaryDto>> trending(@RequestParam(required = false) String window, @RequestParam(defaultValue = "5") int limit, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewService.trending(ReviewTrendingEngine.Window.fromParam(window), limit, userId));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ReviewDto> detail(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewService.getPublic(id, email));
+    public ResponseEntity<ReviewDto> detail(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewService.getPublic(id, userId, viewerKey(userId, request)));
     }
 
     @GetMapping("/slug/{slug}")
-    public ResponseEntity<ReviewDto> detailBySlug(@PathVariable String slug, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewService.getPublicBySlug(slug, email));
+    public ResponseEntity<ReviewDto> detailBySlug(@PathVariable String slug, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewService.getPublicBySlug(slug, userId, viewerKey(userId, request)));
     }
 
     @PostMapping("/{id}/like")
-    public ResponseEntity<Void> likeReview(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewService.likeReview(id, email);
+    public ResponseEntity<Void> likeReview(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        reviewService.likeReview(id, userId);
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/{id}/unlike")
-    public ResponseEntity<Void> unlikeReview(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewService.unlikeReview(id, email);
+    public ResponseEntity<Void> unlikeReview(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        reviewService.unlikeReview(id, userId);
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping
-    public ResponseEntity<ReviewDto> create(@AuthenticationPrincipal Object principal, HttpServletRequest request, @Valid @RequestBody CreateReviewRequest requestBody) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewService.create(email, requestBody));
+    public ResponseEntity<ReviewDto> create(@AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request, @Valid @RequestBody CreateReviewRequest requestBody) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewService.create(userId, requestBody));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ReviewDto> update(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request, @Valid @RequestBody UpdateReviewRequest requestBody) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewService.updateOwn(id, email, requestBody));
+    public ResponseEntity<ReviewDto> update(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request, @Valid @RequestBody UpdateReviewRequest requestBody) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewService.updateOwn(id, userId, requestBody));
     }
 
     @PutMapping("/slug/{slug}")
-    public ResponseEntity<ReviewDto> updateBySlug(@PathVariable String slug, @AuthenticationPrincipal Object principal, HttpServletRequest request, @Valid @RequestBody UpdateReviewRequest requestBody) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewService.updateOwnBySlug(slug, email, requestBody));
+    public ResponseEntity<ReviewDto> updateBySlug(@PathVariable String slug, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request, @Valid @RequestBody UpdateReviewRequest requestBody) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewService.updateOwnBySlug(slug, userId, requestBody));
     }
 
     @PutMapping("/{id}/hide")
-    public ResponseEntity<Void> hide(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewService.hideOwn(id, email);
+    public ResponseEntity<Void> hide(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        reviewService.hideOwn(id, userId);
         return ResponseEntity.noContent().build();
     }
 
     @PutMapping("/{id}/unhide")
-    public ResponseEntity<Void> unhide(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewService.unhideOwn(id, email);
+    public ResponseEntity<Void> unhide(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        reviewService.unhideOwn(id, userId);
         return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewService.deleteOwn(id, email);
+    public ResponseEntity<Void> delete(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        reviewService.deleteOwn(id, userId);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/pending")
     public ResponseEntity<ReviewListResponse> pending(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
-        Page<ReviewDto> pending = reviewService.listPending(page, size);
+        Page<ReviewSummaryDto> pending = reviewService.listPending(page, size);
         return ResponseEntity.ok(new ReviewListResponse(pending.getContent(), pending.getTotalElements()));
     }
 
     @PostMapping("/{id}/approve")
-    public ResponseEntity<Void> approve(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewService.approve(id, email, true);
+    public ResponseEntity<Void> approve(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        reviewService.approve(id, currentUserResolver.resolve(principal, request), true);
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/{id}/reject")
-    public ResponseEntity<Void> reject(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewService.approve(id, email, false);
+    public ResponseEntity<Void> reject(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        reviewService.approve(id, currentUserResolver.resolve(principal, request), false);
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/{id}/comments")
-    public ResponseEntity<CommentDto> addComment(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request, @Valid @RequestBody CreateCommentRequest commentRequest) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewService.addComment(id, email, commentRequest));
+    public ResponseEntity<CommentDto> addComment(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request, @Valid @RequestBody CreateCommentRequest commentRequest) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewService.addComment(id, userId, commentRequest));
     }
 
     @GetMapping("/{id}/comments")
-    public ResponseEntity<List<CommentDto>> listComments(@PathVariable Long id, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "top") String sort, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewService.listComments(id, page, size, sort, email));
+    public ResponseEntity<List<CommentDto>> listComments(@PathVariable Long id, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "top") String sort, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewService.listComments(id, page, size, sort, userId));
+    }
+
+    private String viewerKey(Long userId, HttpServletRequest request) {
+        if (userId != null) {
+            return "u:" + userId;
+        }
+        String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        if (userAgent != null && BOT_USER_AGENT.matcher(userAgent).find()) {
+            return null;
+        }
+        return "c:" + request.getRemoteAddr() + "|" + (userAgent != null ? userAgent : "");
     }
 
 }
@@ -2,6 +2,7 @@ package com.example.autoreview.publicsite.controller;
 
 import com.example.autoreview.publicsite.dto.response.ReviewerDto;
 import com.example.autoreview.publicsite.service.ReviewerService;
+import com.example.autoreview.security.AuthenticatedUser;
 import com.example.autoreview.security.CurrentUserResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
@@ -25,8 +26,8 @@ public class ReviewerController {
     }
 
     @GetMapping("/top")
-    public ResponseEntity<List<ReviewerDto>> top(@RequestParam(defaultValue = "5") int limit, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewerService.topReviewers(limit, email));
+    public ResponseEntity<List<ReviewerDto>> top(@RequestParam(defaultValue = "5") int limit, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewerService.topReviewers(limit, userId));
     }
 }
@@ -4,6 +4,7 @@ import com.example.autoreview.publicsite.dto.response.ReviewListResponse;
 import com.example.autoreview.publicsite.dto.response.ReviewerDto;
 import com.example.autoreview.publicsite.service.ReviewService;
 import com.example.autoreview.publicsite.service.ReviewerService;
+import com.example.autoreview.security.AuthenticatedUser;
 import com.example.autoreview.security.CurrentUserResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
@@ -30,40 +31,40 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ReviewerDto> profile(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewerService.getById(id, email));
+    public ResponseEntity<ReviewerDto> profile(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewerService.getById(id, userId));
     }
 
     @GetMapping("/{id}/reviews")
-    public ResponseEntity<ReviewListResponse> reviews(@PathVariable Long id, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewService.listPublicByAuthor(id, page, size, email));
+    public ResponseEntity<ReviewListResponse> reviews(@PathVariable Long id, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewService.listPublicByAuthor(id, page, size, userId));
     }
 
     @GetMapping("/username/{username}")
-    public ResponseEntity<ReviewerDto> profileByUsername(@PathVariable String username, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewerService.getByUsername(username, email));
+    public ResponseEntity<ReviewerDto> profileByUsername(@PathVariable String username, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewerService.getByUsername(username, userId));
     }
 
     @GetMapping("/username/{username}/reviews")
-    public ResponseEntity<ReviewListResponse> reviewsByUsername(@PathVariable String username, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        return ResponseEntity.ok(reviewService.listPublicByAuthorUsername(username, page, size, email));
+    public ResponseEntity<ReviewListResponse> reviewsByUsername(@PathVariable String username, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        return ResponseEntity.ok(reviewService.listPublicByAuthorUsername(username, page, size, userId));
     }
 
     @PostMapping("/{id}/follow")
-    public ResponseEntity<Void> follow(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewerService.follow(id, email);
+    public ResponseEntity<Void> follow(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        reviewerService.follow(id, userId);
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/{id}/unfollow")
-    public ResponseEntity<Void> unfollow(@PathVariable Long id, @AuthenticationPrincipal Object principal, HttpServletRequest request) {
-        String email = currentUserResolver.resolveEmail(principal, request);
-        reviewerService.unfollow(id, email);
+    public ResponseEntity<Void> unfollow(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser principal, HttpServletRequest request) {
+        Long userId = currentUserResolver.resolveUserId(principal, request);
+        reviewerService.unfollow(id, userId);
         return ResponseEntity.noContent().build();
     }
 }
@@ -5,6 +5,7 @@ import java.time.Instant;
 public class CommentDto {
     private Long id;
     private String content;
+    private Long authorId;
     private String authorName;
     private String authorAvatar;
     private String authorUsername;
@@ -34,6 +35,14 @@ public class CommentDto {
         this.content = content;
     }
 
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+
     public String getAuthorName() {
         return authorName;
     }
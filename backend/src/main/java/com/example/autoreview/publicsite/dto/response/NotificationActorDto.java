@@ -0,0 +1,41 @@
+package com.example.autoreview.publicsite.dto.response;
+
+public class NotificationActorDto {
+
+    private Long id;
+    private String username;
+    private String avatarUrl;
+
+    public NotificationActorDto() {
+    }
+
+    public NotificationActorDto(Long id, String username, String avatarUrl) {
+        this.id = id;
+        this.username = username;
+        this.avatarUrl = avatarUrl;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getAvatarUrl() {
+        return avatarUrl;
+    }
+
+    public void setAvatarUrl(String avatarUrl) {
+        this.avatarUrl = avatarUrl;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.autoreview.publicsite.dto.response;
 
 import java.time.Instant;
+import java.util.List;
 
 public class NotificationDto {
 
@@ -9,6 +10,7 @@ public class NotificationDto {
     private String message;
     private boolean read;
     private Instant createdAt;
+    private Instant updatedAt;
     private Long reviewId;
     private String reviewSlug;
     private String reviewTitle;
@@ -16,6 +18,8 @@ public class NotificationDto {
     private String actorName;
     private String actorUsername;
     private String actorAvatar;
+    private int actorCount = 1;
+    private List<NotificationActorDto> sampleActors = List.of();
 
     public Long getId() {
         return id;
@@ -57,6 +61,14 @@ public class NotificationDto {
         this.createdAt = createdAt;
     }
 
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     public Long getReviewId() {
         return reviewId;
     }
@@ -112,4 +124,20 @@ public class NotificationDto {
     public void setActorAvatar(String actorAvatar) {
         this.actorAvatar = actorAvatar;
     }
+
+    public int getActorCount() {
+        return actorCount;
+    }
+
+    public void setActorCount(int actorCount) {
+        this.actorCount = actorCount;
+    }
+
+    public List<NotificationActorDto> getSampleActors() {
+        return sampleActors;
+    }
+
+    public void setSampleActors(List<NotificationActorDto> sampleActors) {
+        this.sampleActors = sampleActors;
+    }
 }
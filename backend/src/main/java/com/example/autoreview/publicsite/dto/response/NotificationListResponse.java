@@ -0,0 +1,32 @@
+package com.example.autoreview.publicsite.dto.response;
+
+import java.util.List;
+
+public class NotificationListResponse {
+    private List<NotificationDto> notifications;
+    private String nextCursor;
+
+    public NotificationListResponse() {
+    }
+
+    public NotificationListResponse(List<NotificationDto> notifications, String nextCursor) {
+        this.notifications = notifications;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<NotificationDto> getNotifications() {
+        return notifications;
+    }
+
+    public void setNotifications(List<NotificationDto> notifications) {
+        this.notifications = notifications;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
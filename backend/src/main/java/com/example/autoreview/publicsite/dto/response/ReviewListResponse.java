@@ -1,32 +1,65 @@
 package com.example.autoreview.publicsite.dto.response;
 
 import java.util.List;
+import java.util.Map;
 
 public class ReviewListResponse {
-    private List<ReviewDto> reviews;
-    private long total;
+    private List<ReviewSummaryDto> reviews;
+    private Long total;
+    private String nextCursor;
+    private Map<String, Map<String, Long>> facets;
+    private String didYouMean;
 
     public ReviewListResponse() {
     }
 
-    public ReviewListResponse(List<ReviewDto> reviews, long total) {
+    public ReviewListResponse(List<ReviewSummaryDto> reviews, long total) {
         this.reviews = reviews;
         this.total = total;
     }
 
-    public List<ReviewDto> getReviews() {
+    public ReviewListResponse(List<ReviewSummaryDto> reviews, String nextCursor) {
+        this.reviews = reviews;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ReviewSummaryDto> getReviews() {
         return reviews;
     }
 
-    public void setReviews(List<ReviewDto> reviews) {
+    public void setReviews(List<ReviewSummaryDto> reviews) {
         this.reviews = reviews;
     }
 
-    public long getTotal() {
+    public Long getTotal() {
         return total;
     }
 
-    public void setTotal(long total) {
+    public void setTotal(Long total) {
         this.total = total;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Map<String, Map<String, Long>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, Map<String, Long>> facets) {
+        this.facets = facets;
+    }
+
+    public String getDidYouMean() {
+        return didYouMean;
+    }
+
+    public void setDidYouMean(String didYouMean) {
+        this.didYouMean = didYouMean;
+    }
 }
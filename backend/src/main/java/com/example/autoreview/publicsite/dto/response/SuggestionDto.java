@@ -0,0 +1,51 @@
+package com.example.autoreview.publicsite.dto.response;
+
+public class SuggestionDto {
+
+    private String type;
+    private String text;
+    private Long id;
+    private String slug;
+
+    public SuggestionDto() {
+    }
+
+    public SuggestionDto(String type, String text, Long id, String slug) {
+        this.type = type;
+        this.text = text;
+        this.id = id;
+        this.slug = slug;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+}
@@ -13,7 +13,6 @@ import com.example.autoreview.exception.ApiException;
 import com.example.autoreview.mapper.DtoMapper;
 import com.example.autoreview.repository.PasswordResetTokenRepository;
 import com.example.autoreview.repository.RefreshTokenRepository;
-import com.example.autoreview.repository.ReviewRepository;
 import com.example.autoreview.repository.UserRepository;
 import com.example.autoreview.security.JwtUtil;
 import com.example.autoreview.security.Roles;
@@ -42,17 +41,15 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final ReviewRepository reviewRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
     private final long refreshExpirationDays;
 
-    public AuthService(UserRepository userRepository, PasswordResetTokenRepository passwordResetTokenRepository, RefreshTokenRepository refreshTokenRepository, ReviewRepository reviewRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil, AuthenticationManager authenticationManager, @Value("${app.jwt.refresh-days:30}") long refreshExpirationDays) {
+    public AuthService(UserRepository userRepository, PasswordResetTokenRepository passwordResetTokenRepository, RefreshTokenRepository refreshTokenRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil, AuthenticationManager authenticationManager, @Value("${app.jwt.refresh-days:30}") long refreshExpirationDays) {
         this.userRepository = userRepository;
         this.passwordResetTokenRepository = passwordResetTokenRepository;
         this.refreshTokenRepository = refreshTokenRepository;
-        this.reviewRepository = reviewRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
         this.authenticationManager = authenticationManager;
@@ -102,7 +99,8 @@ public class AuthService {
     }
 
     public String issueToken(String email) {
-        return jwtUtil.generateToken(email, findUserRoles(email));
+        User user = userRepository.findByEmail(email).orElseThrow(() -> new ApiException(HttpStatus.UNAUTHORIZED, "Unauthorized"));
+        return jwtUtil.generateToken(user.getId(), user.getEmail(), user.getUsername(), Set.copyOf(user.getRoles()));
     }
 
     @Transactional
@@ -186,18 +184,12 @@ public class AuthService {
         return roles.contains(Roles.ADMIN) || roles.contains(Roles.MANAGER) || roles.contains(Roles.SYSTEM_ADMIN);
     }
 
-    private Set<String> findUserRoles(String email) {
-        return userRepository.findByEmail(email)
-                .map(User::getRoles)
-                .orElse(Set.of());
-    }
-
     private AuthResponse buildAuthResponse(User user) {
         AuthResponse response = new AuthResponse(DtoMapper.toUserProfile(user));
         response.getUser().setAvatarUrl(user.getAvatarUrl());
         response.getUser().setFollowers(user.getFollowers());
         response.getUser().setRating(user.getRating());
-        response.getUser().setReviewCount((int) reviewRepository.countByAuthorIdAndStatus(user.getId(), com.example.autoreview.domain.ReviewStatus.APPROVED));
+        response.getUser().setReviewCount(user.getReviewCount() == null ? 0 : user.getReviewCount());
         response.getUser().setRoles(user.getRoles());
         return response;
     }
@@ -0,0 +1,59 @@
+package com.example.autoreview.publicsite.service;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuthorReviewCountReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthorReviewCountReconciler.class);
+
+    private static final String APPROVED_COUNT = "(SELECT COUNT(*) FROM reviews r WHERE r.author_id = u.id AND r.status = 'APPROVED')";
+    private static final String RECONCILE_SQL = "UPDATE users u SET review_count = " + APPROVED_COUNT
+            + " WHERE u.id > ? AND u.id <= ? AND COALESCE(u.review_count, -1) <> " + APPROVED_COUNT;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    private final int batchSize;
+
+    public AuthorReviewCountReconciler(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.review-counts.reconcile-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.review-counts.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        if (!reconcileLock.tryLock()) {
+            return;
+        }
+        try {
+            long fixed = 0;
+            long afterId = 0;
+            while (true) {
+                List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?", Long.class, afterId, batchSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                long upToId = ids.get(ids.size() - 1);
+                fixed += jdbcTemplate.update(RECONCILE_SQL, afterId, upToId);
+                afterId = upToId;
+                if (ids.size() < batchSize) {
+                    break;
+                }
+            }
+            if (fixed > 0) {
+                log.info("Reconciled approved review counts for {} authors", fixed);
+            }
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+}
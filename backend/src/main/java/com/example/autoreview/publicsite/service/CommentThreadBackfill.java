@@ -0,0 +1,112 @@
+package com.example.autoreview.publicsite.service;
+
+import com.example.autoreview.repository.ReviewParticipantRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class CommentThreadBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentThreadBackfill.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_DEPTH = 64;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReviewParticipantRepository reviewParticipantRepository;
+
+    public CommentThreadBackfill(JdbcTemplate jdbcTemplate, ReviewParticipantRepository reviewParticipantRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reviewParticipantRepository = reviewParticipantRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRootIds() {
+        long backfilled = 0;
+        long afterId = 0;
+        List<Reply> batch;
+        do {
+            batch = jdbcTemplate.query(
+                    "SELECT id, parent_id FROM comments WHERE id > ? AND parent_id IS NOT NULL AND root_id IS NULL ORDER BY id LIMIT ?",
+                    (rs, row) -> new Reply(rs.getLong("id"), rs.getLong("parent_id")),
+                    afterId, BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Object[]> updates = new ArrayList<>();
+            resolveRoots(batch).forEach((id, rootId) -> updates.add(new Object[]{rootId, id}));
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE comments SET root_id = ? WHERE id = ? AND root_id IS NULL", updates);
+                backfilled += updates.size();
+            }
+            afterId = batch.get(batch.size() - 1).id();
+        } while (batch.size() == BATCH_SIZE);
+        if (backfilled > 0) {
+            log.info("Backfilled thread root for {} comments", backfilled);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillParticipants() {
+        int added = reviewParticipantRepository.backfillFromComments();
+        if (added > 0) {
+            log.info("Backfilled {} review participants from comments", added);
+        }
+    }
+
+    private Map<Long, Long> resolveRoots(List<Reply> replies) {
+        Map<Long, Long> roots = new HashMap<>();
+        Map<Long, Long> pending = new HashMap<>();
+        replies.forEach(reply -> pending.put(reply.id(), reply.parentId()));
+        for (int depth = 0; depth < MAX_DEPTH && !pending.isEmpty(); depth++) {
+            Map<Long, Ancestor> ancestors = loadAncestors(Set.copyOf(pending.values()));
+            Map<Long, Long> next = new HashMap<>();
+            pending.forEach((id, ancestorId) -> {
+                Ancestor ancestor = ancestors.get(ancestorId);
+                if (ancestor == null) {
+                    return;
+                }
+                if (ancestor.rootId() != null) {
+                    roots.put(id, ancestor.rootId());
+                } else if (ancestor.parentId() == null) {
+                    roots.put(id, ancestor.id());
+                } else {
+                    next.put(id, ancestor.parentId());
+                }
+            });
+            pending.clear();
+            pending.putAll(next);
+        }
+        return roots;
+    }
+
+    private Map<Long, Ancestor> loadAncestors(Collection<Long> ids) {
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Map<Long, Ancestor> ancestors = new HashMap<>();
+        jdbcTemplate.query("SELECT id, parent_id, root_id FROM comments WHERE id IN (" + placeholders + ")",
+                rs -> {
+                    ancestors.put(rs.getLong("id"), new Ancestor(rs.getLong("id"), rs.getObject("parent_id", Long.class), rs.getObject("root_id", Long.class)));
+                },
+                ids.toArray());
+        return ancestors;
+    }
+
+    private record Reply(long id, long parentId) {
+    }
+
+    private record Ancestor(Long id, Long parentId, Long rootId) {
+    }
+}
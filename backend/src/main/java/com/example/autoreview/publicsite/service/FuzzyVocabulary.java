@@ -0,0 +1,213 @@
+package com.example.autoreview.publicsite.service;
+
+import com.example.autoreview.domain.VehicleBrand;
+import com.example.autoreview.repository.projection.ReviewSummary;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FuzzyVocabulary {
+
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int TWO_EDIT_LENGTH = 7;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root;
+    private Map<String, Integer> counts = new HashMap<>();
+    private Map<String, String> display = new HashMap<>();
+    private Map<Long, List<String>> contributions = new HashMap<>();
+
+    public Optional<String> correct(String query) {
+        String normalized = SearchTokenizer.normalize(query);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> corrected = new ArrayList<>();
+        boolean changed = false;
+        lock.readLock().lock();
+        try {
+            for (String word : normalized.split(" ")) {
+                if (counts.getOrDefault(word, 0) > 0 || word.length() < MIN_FUZZY_LENGTH) {
+                    corrected.add(word);
+                    continue;
+                }
+                String best = nearest(word, word.length() >= TWO_EDIT_LENGTH ? 2 : 1);
+                if (best == null) {
+                    corrected.add(word);
+                    continue;
+                }
+                corrected.add(display.get(best));
+                changed = true;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return changed ? Optional.of(String.join(" ", corrected)) : Optional.empty();
+    }
+
+    public void rebuild(Collection<VehicleBrand> brands, Collection<ReviewSummary> approved) {
+        FuzzyVocabulary fresh = new FuzzyVocabulary();
+        brands.forEach(brand -> fresh.words(brand.getName()).forEach(fresh::increment));
+        approved.forEach(fresh::addReview);
+        lock.writeLock().lock();
+        try {
+            root = fresh.root;
+            counts = fresh.counts;
+            display = fresh.display;
+            contributions = fresh.contributions;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void add(ReviewSummary summary) {
+        lock.writeLock().lock();
+        try {
+            removeReview(summary.getId());
+            addReview(summary);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long reviewId) {
+        lock.writeLock().lock();
+        try {
+            removeReview(reviewId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addReview(ReviewSummary summary) {
+        Set<String> words = new LinkedHashSet<>();
+        words.addAll(words(summary.getBrandName()));
+        words.addAll(words(summary.getVehicleModel()));
+        words.forEach(this::increment);
+        contributions.put(summary.getId(), List.copyOf(words));
+    }
+
+    private void removeReview(Long reviewId) {
+        List<String> words = contributions.remove(reviewId);
+        if (words != null) {
+            words.forEach(word -> counts.computeIfPresent(word, (key, count) -> count > 1 ? count - 1 : null));
+        }
+    }
+
+    private Set<String> words(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        if (text == null) {
+            return words;
+        }
+        for (String raw : text.split("[^\\p{L}\\p{N}]+")) {
+            String word = SearchTokenizer.normalize(raw);
+            if (word.length() >= 2) {
+                words.add(word);
+                display.putIfAbsent(word, raw);
+            }
+        }
+        return words;
+    }
+
+    private void increment(String word) {
+        if (counts.merge(word, 1, Integer::sum) == 1) {
+            insert(word);
+        }
+    }
+
+    private void insert(String word) {
+        if (root == null) {
+            root = new Node(word);
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    private String nearest(String word, int maxDistance) {
+        if (root == null) {
+            return null;
+        }
+        String best = null;
+        int bestDistance = maxDistance + 1;
+        List<Node> pending = new ArrayList<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.remove(pending.size() - 1);
+            int distance = distance(word, node.word);
+            int count = counts.getOrDefault(node.word, 0);
+            if (count > 0 && (distance < bestDistance
+                    || (distance == bestDistance && best != null && (count > counts.get(best) || (count == counts.get(best) && node.word.compareTo(best) < 0))))) {
+                best = node.word;
+                bestDistance = distance;
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.add(child.getValue());
+                }
+            }
+        }
+        return best;
+    }
+
+    static int distance(String a, String b) {
+        int infinity = a.length() + b.length();
+        int[][] d = new int[a.length() + 2][b.length() + 2];
+        d[0][0] = infinity;
+        for (int i = 0; i <= a.length(); i++) {
+            d[i + 1][0] = infinity;
+            d[i + 1][1] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j + 1] = infinity;
+            d[1][j + 1] = j;
+        }
+        Map<Character, Integer> lastRow = new HashMap<>();
+        for (int i = 1; i <= a.length(); i++) {
+            int lastMatchColumn = 0;
+            for (int j = 1; j <= b.length(); j++) {
+                int matchRow = lastRow.getOrDefault(b.charAt(j - 1), 0);
+                int matchColumn = lastMatchColumn;
+                int cost = 1;
+                if (a.charAt(i - 1) == b.charAt(j - 1)) {
+                    cost = 0;
+                    lastMatchColumn = j;
+                }
+                int value = Math.min(Math.min(d[i][j] + cost, d[i + 1][j] + 1), d[i][j + 1] + 1);
+                d[i + 1][j + 1] = Math.min(value, d[matchRow][matchColumn] + (i - matchRow - 1) + 1 + (j - matchColumn - 1));
+            }
+            lastRow.put(a.charAt(i - 1), i);
+        }
+        return d[a.length() + 1][b.length() + 1];
+    }
+
+    private static final class Node {
+
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.autoreview.publicsite.service;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InvertedIndexSearchEngine implements SearchEngine {
+
+    private static final int EXACT_SHIFT = SearchField.values().length;
+    private static final double PREFIX_CREDIT = 0.5;
+    private static final BitSet EMPTY = new BitSet();
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Indexed> documents = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final Map<Facet, Map<String, BitSet>> facetBits = new EnumMap<>(Facet.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int nextOrdinal;
+
+    public InvertedIndexSearchEngine() {
+        for (Facet facet : Facet.values()) {
+            facetBits.put(facet, new HashMap<>());
+        }
+    }
+
+    @Override
+    public Hits search(String query, int offset, int limit) {
+        Set<String> terms = SearchTokenizer.tokens(query);
+        if (terms.isEmpty()) {
+            return new Hits(List.of(), 0);
+        }
+        List<Scored> matches;
+        lock.readLock().lock();
+        try {
+            matches = match(terms);
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparing(Scored::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(Scored::id, Comparator.reverseOrder()));
+        int from = Math.min(Math.max(0, offset), matches.size());
+        int to = Math.min(from + Math.max(0, limit), matches.size());
+        return new Hits(matches.subList(from, to).stream().map(Scored::id).toList(), matches.size());
+    }
+
+    @Override
+    public Map<Facet, Map<String, Long>> facets(String query, Map<Facet, String> filters) {
+        Set<String> terms = SearchTokenizer.tokens(query);
+        Map<Facet, Map<String, Long>> counts = new EnumMap<>(Facet.class);
+        lock.readLock().lock();
+        try {
+            BitSet matched;
+            if (terms.isEmpty()) {
+                matched = (BitSet) live.clone();
+            } else {
+                matched = new BitSet();
+                match(terms).forEach(scored -> matched.set(documents.get(scored.id()).ordinal()));
+            }
+            for (Facet facet : Facet.values()) {
+                BitSet base = (BitSet) matched.clone();
+                filters.forEach((filter, value) -> {
+                    if (filter != facet && value != null) {
+                        base.and(facetBits.get(filter).getOrDefault(value, EMPTY));
+                    }
+                });
+                List<Map.Entry<String, Long>> values = new ArrayList<>();
+                facetBits.get(facet).forEach((value, bits) -> {
+                    BitSet intersection = (BitSet) bits.clone();
+                    intersection.and(base);
+                    long count = intersection.cardinality();
+                    if (count > 0) {
+                        values.add(Map.entry(value, count));
+                    }
+                });
+                values.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()));
+                Map<String, Long> ordered = new LinkedHashMap<>();
+                values.forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+                counts.put(facet, ordered);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counts;
+    }
+
+    @Override
+    public boolean contains(Long id) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            unindex(document.id());
+            add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuild(Collection<SearchDocument> replacement) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            live.clear();
+            freeOrdinals.clear();
+            nextOrdinal = 0;
+            facetBits.values().forEach(Map::clear);
+            replacement.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Scored> match(Set<String> terms) {
+        List<Scored> matches = new ArrayList<>();
+        List<Map<Long, Integer>> perTerm = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Integer> masks = postings.get(term);
+            if (masks == null) {
+                return matches;
+            }
+            perTerm.add(masks);
+        }
+        perTerm.sort(Comparator.comparingInt(Map::size));
+        for (Long id : perTerm.get(0).keySet()) {
+            double[] fieldHits = new double[SearchField.values().length];
+            boolean all = true;
+            for (Map<Long, Integer> masks : perTerm) {
+                Integer mask = masks.get(id);
+                if (mask == null) {
+                    all = false;
+                    break;
+                }
+                for (SearchField field : SearchField.values()) {
+                    if ((mask & (field.mask() << EXACT_SHIFT)) != 0) {
+                        fieldHits[field.ordinal()] += 1;
+                    } else if ((mask & field.mask()) != 0) {
+                        fieldHits[field.ordinal()] += PREFIX_CREDIT;
+                    }
+                }
+            }
+            if (all) {
+                matches.add(new Scored(id, score(fieldHits, terms.size()), documents.get(id).createdAt()));
+            }
+        }
+        return matches;
+    }
+
+    private static double score(double[] fieldHits, int termCount) {
+        double score = 0;
+        for (SearchField field : SearchField.values()) {
+            score += field.weight() * fieldHits[field.ordinal()] / termCount;
+        }
+        return score;
+    }
+
+    private void add(SearchDocument document) {
+        Map<String, Integer> terms = new HashMap<>();
+        document.fields().forEach((field, value) -> {
+            SearchTokenizer.edgeGrams(value).forEach(gram -> terms.merge(gram, field.mask(), (a, b) -> a | b));
+            SearchTokenizer.tokens(value).forEach(token -> terms.merge(token, field.mask() << EXACT_SHIFT, (a, b) -> a | b));
+        });
+        terms.forEach((term, mask) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.id(), mask));
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        live.set(ordinal);
+        Map<Facet, String> facetValues = new EnumMap<>(Facet.class);
+        for (Facet facet : Facet.values()) {
+            String value = document.fields().get(facet.field());
+            if (value != null) {
+                facetValues.put(facet, value);
+                facetBits.get(facet).computeIfAbsent(value, key -> new BitSet()).set(ordinal);
+            }
+        }
+        documents.put(document.id(), new Indexed(document.createdAt(), terms.keySet(), ordinal, facetValues));
+    }
+
+    private void unindex(Long id) {
+        Indexed previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        live.clear(previous.ordinal());
+        freeOrdinals.push(previous.ordinal());
+        previous.facets().forEach((facet, value) -> {
+            BitSet bits = facetBits.get(facet).get(value);
+            if (bits != null) {
+                bits.clear(previous.ordinal());
+                if (bits.isEmpty()) {
+                    facetBits.get(facet).remove(value);
+                }
+            }
+        });
+        for (String term : previous.terms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private record Indexed(Instant createdAt, Set<String> terms, int ordinal, Map<Facet, String> facets) {
+    }
+
+    private record Scored(Long id, double score, Instant createdAt) {
+    }
+}
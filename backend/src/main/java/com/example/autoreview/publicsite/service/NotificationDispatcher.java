@@ -0,0 +1,383 @@
+package com.example.autoreview.publicsite.service;
+
+import com.example.autoreview.domain.Comment;
+import com.example.autoreview.domain.NotificationOutbox;
+import com.example.autoreview.domain.User;
+import com.example.autoreview.repository.CommentRepository;
+import com.example.autoreview.repository.NotificationOutboxRepository;
+import com.example.autoreview.repository.ReviewParticipantRepository;
+import com.example.autoreview.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final String INSERT_SQL = "INSERT INTO notifications (recipient_id, actor_id, review_id, comment_id, type, message, read_flag, created_at, updated_at, aggregate_key, actor_count, sample_actor_ids, window_start) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String MERGE_SQL = "UPDATE notifications SET actor_id = ?, actor_count = ?, sample_actor_ids = ?, message = ?, comment_id = ?, read_flag = false, updated_at = GREATEST(COALESCE(updated_at, created_at), ?) WHERE id = ?";
+    private static final int SAMPLE_ACTORS = 3;
+    private static final long MAX_BACKOFF_SECONDS = 300;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+    private final ReviewParticipantRepository reviewParticipantRepository;
+    private final UnreadNotificationCounter unreadCounter;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor signalExecutor;
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter dispatched;
+    private final Counter failures;
+    private final Counter deadLettered;
+    private final Counter shed;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long shedLikesAbove;
+    private final boolean dispatchOnCommit;
+    private final Duration aggregateWindow;
+    private final Duration claimLease;
+
+    public NotificationDispatcher(
+            NotificationOutboxRepository outboxRepository,
+            UserRepository userRepository,
+            CommentRepository commentRepository,
+            ReviewParticipantRepository reviewParticipantRepository,
+            UnreadNotificationCounter unreadCounter,
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.outbox.batch-size:100}") int batchSize,
+            @Value("${app.notifications.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${app.notifications.outbox.shed-likes-above:50000}") long shedLikesAbove,
+            @Value("${app.notifications.outbox.dispatch-on-commit:true}") boolean dispatchOnCommit,
+            @Value("${app.notifications.outbox.claim-lease-seconds:60}") long claimLeaseSeconds,
+            @Value("${app.notifications.aggregate-window-minutes:360}") long aggregateWindowMinutes) {
+        this.outboxRepository = outboxRepository;
+        this.userRepository = userRepository;
+        this.commentRepository = commentRepository;
+        this.reviewParticipantRepository = reviewParticipantRepository;
+        this.unreadCounter = unreadCounter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.shedLikesAbove = shedLikesAbove;
+        this.dispatchOnCommit = dispatchOnCommit;
+        this.aggregateWindow = Duration.ofMinutes(aggregateWindowMinutes);
+        this.claimLease = Duration.ofSeconds(claimLeaseSeconds);
+        this.signalExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.DiscardPolicy());
+        Gauge.builder("notifications.outbox.depth", depth, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("notifications.outbox.lag", lagMillis, lag -> lag.get() / 1000.0).baseUnit("seconds").register(meterRegistry);
+        this.dispatched = Counter.builder("notifications.dispatched").register(meterRegistry);
+        this.failures = Counter.builder("notifications.dispatch.failures").register(meterRegistry);
+        this.deadLettered = Counter.builder("notifications.outbox.dead").register(meterRegistry);
+        this.shed = Counter.builder("notifications.outbox.shed").register(meterRegistry);
+    }
+
+    public boolean admits(String type) {
+        if ("LIKE_REVIEW".equals(type) && depth.get() >= shedLikesAbove) {
+            shed.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public void signal() {
+        if (dispatchOnCommit) {
+            signalExecutor.execute(this::drain);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        drainLock.lock();
+        try {
+            List<NotificationOutbox> batch;
+            do {
+                batch = claim();
+                Set<String> blockedKeys = new HashSet<>();
+                for (NotificationOutbox event : batch) {
+                    String key = event.getOrderingKey();
+                    if (key != null && blockedKeys.contains(key)) {
+                        release(event);
+                    } else if (!dispatch(event) && key != null) {
+                        blockedKeys.add(key);
+                    }
+                }
+            } while (batch.size() == batchSize);
+            refreshBacklog();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        signalExecutor.shutdownNow();
+    }
+
+    private List<NotificationOutbox> claim() {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<NotificationOutbox> batch = outboxRepository.findClaimable(now, PageRequest.of(0, batchSize));
+            for (NotificationOutbox event : batch) {
+                event.setClaimedBy(nodeId);
+                event.setClaimedUntil(now.plus(claimLease));
+            }
+            return batch;
+        });
+    }
+
+    private void release(NotificationOutbox event) {
+        event.setClaimedBy(null);
+        event.setClaimedUntil(null);
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.save(event));
+    }
+
+    private boolean dispatch(NotificationOutbox event) {
+        Map<Long, Integer> unread;
+        try {
+            unread = transactionTemplate.execute(status -> {
+                if (outboxRepository.deleteClaimed(event.getId(), nodeId) == 0) {
+                    return Map.<Long, Integer>of();
+                }
+                return deliver(event);
+            });
+        } catch (RuntimeException ex) {
+            failures.increment();
+            return recordFailure(event, ex);
+        }
+        if (unread != null && !unread.isEmpty()) {
+            dispatched.increment(unread.size());
+            delivered(event, unread);
+        }
+        return true;
+    }
+
+    private void delivered(NotificationOutbox event, Map<Long, Integer> unread) {
+        try {
+            unread.forEach(unreadCounter::added);
+            eventPublisher.publishEvent(new NotificationsDeliveredEvent(Set.copyOf(unread.keySet()), deliveredAt(event)));
+        } catch (RuntimeException ex) {
+            log.warn("Post-delivery handling of notification event {} failed", event.getId(), ex);
+        }
+    }
+
+    private boolean recordFailure(NotificationOutbox event, RuntimeException ex) {
+        event.setAttempts(event.getAttempts() + 1);
+        String message = ex.getMessage() == null ? ex.getClass().getName() : ex.getMessage();
+        event.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+        event.setClaimedBy(null);
+        event.setClaimedUntil(null);
+        if (event.getAttempts() >= maxAttempts) {
+            event.setDeadLetter(true);
+            deadLettered.increment();
+            log.error("Notification event {} moved to dead letter after {} attempts", event.getId(), event.getAttempts(), ex);
+        } else {
+            long backoff = Math.min(MAX_BACKOFF_SECONDS, 1L << event.getAttempts());
+            event.setNextAttemptAt(Instant.now().plus(Duration.ofSeconds(backoff)));
+            log.warn("Notification event {} failed, retrying in {}s", event.getId(), backoff, ex);
+        }
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.save(event));
+        return event.isDeadLetter();
+    }
+
+    private Map<Long, Integer> deliver(NotificationOutbox event) {
+        User actor = event.getActorId() != null ? userRepository.findById(event.getActorId()).orElse(null) : null;
+        if (actor == null) {
+            return Map.of();
+        }
+        Instant createdAt = deliveredAt(event);
+        List<Delivery> deliveries = new ArrayList<>();
+        switch (event.getType()) {
+            case "FOLLOW", "LIKE_REVIEW" -> {
+                if (event.getRecipientId() != null && !event.getRecipientId().equals(actor.getId())) {
+                    deliveries.add(new Delivery(event.getRecipientId(), event.getType(), event.getReviewId(), null));
+                }
+            }
+            case "NEW_COMMENT" -> {
+                Comment comment = commentRepository.findById(event.getCommentId()).orElse(null);
+                if (comment != null) {
+                    Set<Long> recipientIds = event.getRecipientId() != null ? Set.of(event.getRecipientId()) : commentRecipients(comment, actor);
+                    for (Long recipientId : recipientIds) {
+                        deliveries.add(new Delivery(recipientId, resolveType(recipientId, comment), event.getReviewId(), comment.getId()));
+                    }
+                }
+            }
+            default -> log.warn("Skipping notification event {} with unknown type {}", event.getId(), event.getType());
+        }
+        Map<String, List<Delivery>> byKey = new LinkedHashMap<>();
+        Map<Long, Integer> newlyUnread = new HashMap<>();
+        List<Object[]> inserts = new ArrayList<>();
+        for (Delivery delivery : deliveries) {
+            String key = aggregateKey(delivery);
+            if (key == null) {
+                inserts.add(insertRow(delivery, null, 1, String.valueOf(actor.getId()), message(delivery.type(), actor.getUsername(), 1), actor, createdAt));
+                newlyUnread.merge(delivery.recipientId(), 1, Integer::sum);
+            } else {
+                byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(delivery);
+            }
+        }
+        List<Object[]> updates = new ArrayList<>();
+        Instant windowFrom = createdAt.minus(aggregateWindow);
+        byKey.forEach((key, group) -> {
+            Map<Long, Aggregate> existing = findAggregates(key, group, windowFrom);
+            for (Delivery delivery : group) {
+                Aggregate aggregate = existing.get(delivery.recipientId());
+                newlyUnread.merge(delivery.recipientId(), aggregate == null || aggregate.read() ? 1 : 0, Integer::sum);
+                if (aggregate == null) {
+                    inserts.add(insertRow(delivery, key, 1, String.valueOf(actor.getId()), message(delivery.type(), actor.getUsername(), 1), actor, createdAt));
+                    continue;
+                }
+                List<String> samples = new ArrayList<>(List.of(aggregate.sampleActorIds().split(",")));
+                boolean repeat = samples.remove(String.valueOf(actor.getId()));
+                samples.add(0, String.valueOf(actor.getId()));
+                int count = repeat ? aggregate.actorCount() : aggregate.actorCount() + 1;
+                String sampleIds = String.join(",", samples.subList(0, Math.min(SAMPLE_ACTORS, samples.size())));
+                updates.add(new Object[]{actor.getId(), count, sampleIds, message(delivery.type(), actor.getUsername(), count), delivery.commentId(), Timestamp.from(createdAt), aggregate.id()});
+            }
+        });
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(MERGE_SQL, updates);
+        }
+        return newlyUnread;
+    }
+
+    private Instant deliveredAt(NotificationOutbox event) {
+        if (event.getCreatedAt() == null) {
+            event.setCreatedAt(Instant.now());
+        }
+        return event.getCreatedAt();
+    }
+
+    private Map<Long, Aggregate> findAggregates(String key, List<Delivery> group, Instant windowFrom) {
+        String placeholders = String.join(", ", Collections.nCopies(group.size(), "?"));
+        List<Object> args = new ArrayList<>();
+        args.add(key);
+        args.add(Timestamp.from(windowFrom));
+        group.forEach(delivery -> args.add(delivery.recipientId()));
+        Map<Long, Aggregate> aggregates = new HashMap<>();
+        jdbcTemplate.query("SELECT id, recipient_id, actor_count, sample_actor_ids, read_flag FROM notifications WHERE aggregate_key = ? AND window_start >= ? AND recipient_id IN (" + placeholders + ") ORDER BY id",
+                rs -> {
+                    aggregates.put(rs.getLong("recipient_id"), new Aggregate(rs.getLong("id"), rs.getInt("actor_count"), rs.getString("sample_actor_ids"), rs.getBoolean("read_flag")));
+                },
+                args.toArray());
+        return aggregates;
+    }
+
+    private Object[] insertRow(Delivery delivery, String key, int count, String sampleIds, String message, User actor, Instant createdAt) {
+        Timestamp at = Timestamp.from(createdAt);
+        return new Object[]{delivery.recipientId(), actor.getId(), delivery.reviewId(), delivery.commentId(), delivery.type(), message, false, at, at, key, count, sampleIds, at};
+    }
+
+    private String aggregateKey(Delivery delivery) {
+        return switch (delivery.type()) {
+            case "FOLLOW" -> "FOLLOW";
+            case "LIKE_REVIEW", "COMMENT_ON_OWN_REVIEW", "NEW_COMMENT_ON_WATCHED_REVIEW" -> delivery.type() + ":" + delivery.reviewId();
+            default -> null;
+        };
+    }
+
+    Set<Long> commentRecipients(Comment comment, User actor) {
+        Set<Long> recipientIds = new LinkedHashSet<>();
+        User reviewAuthor = comment.getReview().getAuthor();
+        if (reviewAuthor != null && reviewAuthor.getId() != null) {
+            recipientIds.add(reviewAuthor.getId());
+        }
+        if (comment.getParent() != null && comment.getParent().getAuthor() != null && comment.getParent().getAuthor().getId() != null) {
+            recipientIds.add(comment.getParent().getAuthor().getId());
+        }
+        recipientIds.addAll(reviewParticipantRepository.findActiveUserIdsByReviewId(comment.getReview().getId()));
+        recipientIds.remove(actor.getId());
+        return recipientIds;
+    }
+
+    private void refreshBacklog() {
+        depth.set(outboxRepository.countByDeadLetterFalse());
+        Instant oldest = outboxRepository.findOldestPendingCreatedAt();
+        lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, Instant.now()).toMillis()));
+    }
+
+    private String resolveType(Long recipientId, Comment comment) {
+        if (comment.getParent() != null && comment.getParent().getAuthor() != null && recipientId.equals(comment.getParent().getAuthor().getId())) {
+            return "REPLY_TO_COMMENT";
+        }
+        User reviewAuthor = comment.getReview().getAuthor();
+        if (reviewAuthor != null && recipientId.equals(reviewAuthor.getId())) {
+            return "COMMENT_ON_OWN_REVIEW";
+        }
+        return "NEW_COMMENT_ON_WATCHED_REVIEW";
+    }
+
+    private String message(String type, String actorName, int actorCount) {
+        String name = StringUtils.hasText(actorName) ? actorName : "Người dùng";
+        String subject = actorCount > 1 ? name + " và " + (actorCount - 1) + " người khác" : name;
+        return subject + " " + action(type);
+    }
+
+    private String action(String type) {
+        if ("REPLY_TO_COMMENT".equals(type)) {
+            return "đã trả lời bình luận của bạn";
+        }
+        if ("COMMENT_ON_OWN_REVIEW".equals(type)) {
+            return "đã bình luận bài viết của bạn";
+        }
+        if ("FOLLOW".equals(type)) {
+            return "đã theo dõi bạn";
+        }
+        if ("LIKE_REVIEW".equals(type)) {
+            return "đã thích bài viết của bạn";
+        }
+        return "đã bình luận bài viết bạn đang theo dõi";
+    }
+
+    private record Delivery(Long recipientId, String type, Long reviewId, Long commentId) {
+    }
+
+    private record Aggregate(Long id, int actorCount, String sampleActorIds, boolean read) {
+    }
+}
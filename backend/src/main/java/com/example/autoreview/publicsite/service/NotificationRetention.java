@@ -0,0 +1,146 @@
+package com.example.autoreview.publicsite.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NotificationRetention {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationRetention.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UnreadNotificationCounter unreadCounter;
+    private final ReentrantLock purgeLock = new ReentrantLock();
+    private final Duration readMaxAge;
+    private final int unreadMaxPerUser;
+    private final int batchSize;
+    private final long batchPauseMillis;
+    private final Counter readExpired;
+    private final Counter unreadOverCap;
+    private final Timer runs;
+
+    public NotificationRetention(
+            JdbcTemplate jdbcTemplate,
+            UnreadNotificationCounter unreadCounter,
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.retention.read-max-age-days:90}") long readMaxAgeDays,
+            @Value("${app.notifications.retention.unread-max-per-user:500}") int unreadMaxPerUser,
+            @Value("${app.notifications.retention.batch-size:500}") int batchSize,
+            @Value("${app.notifications.retention.batch-pause-ms:50}") long batchPauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.unreadCounter = unreadCounter;
+        this.readMaxAge = Duration.ofDays(readMaxAgeDays);
+        this.unreadMaxPerUser = unreadMaxPerUser;
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+        this.readExpired = Counter.builder("notifications.retention.purged").tag("reason", "read-expired").register(meterRegistry);
+        this.unreadOverCap = Counter.builder("notifications.retention.purged").tag("reason", "unread-over-cap").register(meterRegistry);
+        this.runs = Timer.builder("notifications.retention.run").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.notifications.retention.cron:0 15 4 * * *}")
+    public void purge() {
+        if (!purgeLock.tryLock()) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            long expired = purgeExpiredRead(Instant.now().minus(readMaxAge));
+            long capped = purgeUnreadOverCap();
+            if (expired > 0 || capped > 0) {
+                log.info("Purged {} expired read notifications and {} unread notifications over the per-user cap", expired, capped);
+            }
+        } finally {
+            runs.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            purgeLock.unlock();
+        }
+    }
+
+    private long purgeExpiredRead(Instant cutoff) {
+        long purged = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM notifications WHERE id > ? AND read_flag = true AND created_at < ? ORDER BY id LIMIT ?",
+                    Long.class, afterId, Timestamp.from(cutoff), batchSize);
+            if (ids.isEmpty()) {
+                return purged;
+            }
+            int deleted = delete(ids, true);
+            purged += deleted;
+            readExpired.increment(deleted);
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < batchSize || !pause()) {
+                return purged;
+            }
+        }
+    }
+
+    private long purgeUnreadOverCap() {
+        List<Long> recipients = jdbcTemplate.queryForList(
+                "SELECT recipient_id FROM notifications WHERE read_flag = false GROUP BY recipient_id HAVING COUNT(*) > ?",
+                Long.class, unreadMaxPerUser);
+        long purged = 0;
+        for (Long recipientId : recipients) {
+            long deletedForRecipient = 0;
+            List<KeysetCursor> boundary = jdbcTemplate.query(
+                    "SELECT created_at, id FROM notifications WHERE recipient_id = ? AND read_flag = false ORDER BY created_at DESC, id DESC LIMIT 1 OFFSET ?",
+                    (rs, row) -> KeysetCursor.of(rs.getTimestamp("created_at").toInstant(), rs.getLong("id")),
+                    recipientId, unreadMaxPerUser - 1);
+            KeysetCursor cursor = boundary.isEmpty() ? null : boundary.get(0);
+            while (cursor != null) {
+                Timestamp createdAt = Timestamp.from(cursor.getCreatedAt());
+                List<KeysetCursor> rows = jdbcTemplate.query(
+                        "SELECT created_at, id FROM notifications WHERE recipient_id = ? AND read_flag = false AND (created_at < ? OR (created_at = ? AND id < ?)) ORDER BY created_at DESC, id DESC LIMIT ?",
+                        (rs, row) -> KeysetCursor.of(rs.getTimestamp("created_at").toInstant(), rs.getLong("id")),
+                        recipientId, createdAt, createdAt, cursor.getId(), batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                int deleted = delete(rows.stream().map(KeysetCursor::getId).toList(), false);
+                deletedForRecipient += deleted;
+                unreadOverCap.increment(deleted);
+                cursor = rows.size() < batchSize || !pause() ? null : rows.get(rows.size() - 1);
+            }
+            unreadCounter.read(recipientId, deletedForRecipient);
+            purged += deletedForRecipient;
+        }
+        return purged;
+    }
+
+    private int delete(List<Long> ids, boolean read) {
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(read);
+        args.addAll(ids);
+        return jdbcTemplate.update("DELETE FROM notifications WHERE read_flag = ? AND id IN (" + placeholders + ")", args.toArray());
+    }
+
+    private boolean pause() {
+        if (batchPauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -2,37 +2,63 @@ package com.example.autoreview.publicsite.service;
 
 import com.example.autoreview.domain.Comment;
 import com.example.autoreview.domain.Notification;
+import com.example.autoreview.domain.NotificationOutbox;
 import com.example.autoreview.domain.Review;
+import com.example.autoreview.domain.ReviewParticipant;
 import com.example.autoreview.domain.User;
 import com.example.autoreview.exception.ApiException;
 import com.example.autoreview.mapper.DtoMapper;
+import com.example.autoreview.publicsite.dto.response.NotificationActorDto;
 import com.example.autoreview.publicsite.dto.response.NotificationDto;
-import com.example.autoreview.repository.CommentRepository;
+import com.example.autoreview.publicsite.dto.response.NotificationListResponse;
+import com.example.autoreview.repository.NotificationOutboxRepository;
 import com.example.autoreview.repository.NotificationRepository;
+import com.example.autoreview.repository.ReviewParticipantRepository;
 import com.example.autoreview.repository.UserRepository;
 import java.time.Instant;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 public class NotificationService {
 
+    private static final int STREAM_REPLAY_LIMIT = 50;
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
-    private final CommentRepository commentRepository;
+    private final ReviewParticipantRepository reviewParticipantRepository;
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final UnreadNotificationCounter unreadCounter;
+    private final NotificationStreams notificationStreams;
+    private final TransactionTemplate readTransaction;
 
-    public NotificationService(NotificationRepository notificationRepository, UserRepository userRepository, CommentRepository commentRepository) {
+    public NotificationService(NotificationRepository notificationRepository, UserRepository userRepository, ReviewParticipantRepository reviewParticipantRepository, NotificationOutboxRepository outboxRepository, NotificationDispatcher notificationDispatcher, UnreadNotificationCounter unreadCounter, NotificationStreams notificationStreams, PlatformTransactionManager transactionManager) {
         this.notificationRepository = notificationRepository;
         this.userRepository = userRepository;
-        this.commentRepository = commentRepository;
+        this.reviewParticipantRepository = reviewParticipantRepository;
+        this.outboxRepository = outboxRepository;
+        this.notificationDispatcher = notificationDispatcher;
+        this.unreadCounter = unreadCounter;
+        this.notificationStreams = notificationStreams;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
     }
 
     @Transactional
@@ -40,7 +66,7 @@ public class NotificationService {
         if (actor == null || target == null || target.getId() == null || actor.getId().equals(target.getId())) {
             return;
         }
-        createNotification(target, actor, null, null, "FOLLOW", actor.getUsername() + " đã theo dõi bạn");
+        enqueue("FOLLOW", actor.getId(), target.getId(), null, null);
     }
 
     @Transactional
@@ -51,7 +77,9 @@ public class NotificationService {
         if (review.getAuthor().getId().equals(actor.getId())) {
             return;
         }
-        createNotification(review.getAuthor(), actor, review, null, "LIKE_REVIEW", actor.getUsername() + " đã thích bài viết của bạn");
+        if (notificationDispatcher.admits("LIKE_REVIEW")) {
+            enqueue("LIKE_REVIEW", actor.getId(), review.getAuthor().getId(), review.getId(), null);
+        }
     }
 
     @Transactional
@@ -59,50 +87,74 @@ public class NotificationService {
         if (actor == null) {
             return;
         }
-        Set<Long> recipientIds = new HashSet<>();
-        if (review.getAuthor() != null && review.getAuthor().getId() != null && !review.getAuthor().getId().equals(actor.getId())) {
-            recipientIds.add(review.getAuthor().getId());
-        }
-        if (comment.getParent() != null && comment.getParent().getAuthor() != null && comment.getParent().getAuthor().getId() != null && !comment.getParent().getAuthor().getId().equals(actor.getId())) {
-            recipientIds.add(comment.getParent().getAuthor().getId());
-        }
-        Set<Long> participantIds = commentRepository.findByReviewOrderByCreatedAtAsc(review).stream()
-                .map(Comment::getAuthor)
-                .filter(Objects::nonNull)
-                .map(User::getId)
-                .filter(Objects::nonNull)
-                .filter(id -> !id.equals(actor.getId()))
-                .collect(Collectors.toSet());
-        recipientIds.addAll(participantIds);
-        if (recipientIds.isEmpty()) {
+        watch(review, actor);
+        enqueue(notificationDispatcher.commentRecipients(comment, actor).stream()
+                .map(recipientId -> event("NEW_COMMENT", actor.getId(), recipientId, review.getId(), comment.getId()))
+                .toList());
+    }
+
+    @Transactional
+    public void forgetReview(Long reviewId) {
+        reviewParticipantRepository.deleteByReviewId(reviewId);
+    }
+
+    private void watch(Review review, User user) {
+        if (reviewParticipantRepository.existsByReviewIdAndUserId(review.getId(), user.getId())) {
             return;
         }
-        Instant now = Instant.now();
-        for (Long recipientId : recipientIds) {
-            User recipient = userRepository.findById(recipientId).orElse(null);
-            if (recipient == null) {
-                continue;
-            }
-            String type = resolveType(recipientId, review, comment);
-            String message = resolveMessage(type, actor.getUsername());
-            createNotification(recipient, actor, review, comment, type, message, now);
-        }
+        ReviewParticipant participant = new ReviewParticipant();
+        participant.setReview(review);
+        participant.setUser(user);
+        participant.setCreatedAt(Instant.now());
+        reviewParticipantRepository.save(participant);
     }
 
     @Transactional(readOnly = true)
-    public List<NotificationDto> list(String email, int limit) {
-        User user = requireUser(email);
+    public NotificationListResponse list(Long userId, String before, int limit) {
+        requireUserId(userId);
+        KeysetCursor cursor = KeysetCursor.decode(before);
         int size = Math.max(1, Math.min(limit, 50));
-        return notificationRepository.findByRecipientOrderByCreatedAtDesc(user, PageRequest.of(0, size)).stream()
-                .map(DtoMapper::toNotificationDto)
-                .toList();
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<Notification> rows = cursor == null
+                ? notificationRepository.findFirstPageByRecipientId(userId, page)
+                : notificationRepository.findPageByRecipientIdBefore(userId, cursor.getCreatedAt(), cursor.getId(), page);
+        boolean hasMore = rows.size() > size;
+        List<Notification> notifications = hasMore ? rows.subList(0, size) : rows;
+        List<NotificationDto> dtos = notifications.stream().map(DtoMapper::toNotificationDto).toList();
+        applySampleActors(notifications, dtos);
+        String nextCursor = null;
+        if (hasMore) {
+            Notification last = notifications.get(notifications.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new NotificationListResponse(dtos, nextCursor);
+    }
+
+    private void applySampleActors(List<Notification> notifications, List<NotificationDto> dtos) {
+        Map<Long, List<Long>> sampleIds = new HashMap<>();
+        for (Notification notification : notifications) {
+            if (StringUtils.hasText(notification.getSampleActorIds()) && notification.getActorCount() != null && notification.getActorCount() > 1) {
+                sampleIds.put(notification.getId(), Arrays.stream(notification.getSampleActorIds().split(",")).map(Long::valueOf).toList());
+            }
+        }
+        if (sampleIds.isEmpty()) {
+            return;
+        }
+        Set<Long> actorIds = sampleIds.values().stream().flatMap(List::stream).collect(Collectors.toSet());
+        Map<Long, User> actors = userRepository.findAllById(actorIds).stream()
+                .collect(Collectors.toMap(User::getId, actor -> actor));
+        dtos.forEach(dto -> dto.setSampleActors(sampleIds.getOrDefault(dto.getId(), List.of()).stream()
+                .map(actors::get)
+                .filter(Objects::nonNull)
+                .map(actor -> new NotificationActorDto(actor.getId(), actor.getUsername(), actor.getAvatarUrl()))
+                .toList()));
     }
 
     @Transactional
-    public void markRead(Long id, String email) {
-        User user = requireUser(email);
+    public void markRead(Long id, Long userId) {
+        requireUserId(userId);
         Notification notification = notificationRepository.findById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Notification not found"));
-        if (!notification.getRecipient().getId().equals(user.getId())) {
+        if (!notification.getRecipient().getId().equals(userId)) {
             throw new ApiException(HttpStatus.FORBIDDEN, "Not allowed");
         }
         if (notification.isReadFlag()) {
@@ -110,73 +162,130 @@ public class NotificationService {
         }
         notification.setReadFlag(true);
         notificationRepository.save(notification);
+        afterCommit(() -> {
+            unreadCounter.read(userId);
+            pushUnreadCount(userId);
+        });
     }
 
     @Transactional
-    public void markAllRead(String email) {
-        User user = requireUser(email);
-        List<Notification> unread = notificationRepository.findByRecipientAndReadFlagFalse(user);
-        if (unread.isEmpty()) {
+    public void markAllRead(Long userId, Long upTo) {
+        requireUserId(userId);
+        if (upTo == null) {
+            notificationRepository.markAllRead(userId);
+            afterCommit(() -> {
+                unreadCounter.cleared(userId);
+                pushUnreadCount(userId);
+            });
             return;
         }
-        unread.forEach(n -> n.setReadFlag(true));
-        notificationRepository.saveAll(unread);
+        Notification boundary = notificationRepository.findById(upTo)
+                .filter(notification -> notification.getRecipient().getId().equals(userId))
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Notification not found"));
+        int marked = notificationRepository.markReadUpTo(userId, boundary.getCreatedAt(), boundary.getId());
+        afterCommit(() -> {
+            unreadCounter.read(userId, marked);
+            pushUnreadCount(userId);
+        });
     }
 
-    @Transactional(readOnly = true)
-    public long countUnread(String email) {
-        User user = requireUser(email);
-        return notificationRepository.countByRecipientAndReadFlagFalse(user);
+    public long countUnread(Long userId) {
+        requireUserId(userId);
+        return unreadCounter.unread(userId);
     }
 
-    private String resolveType(Long recipientId, Review review, Comment comment) {
-        if (comment.getParent() != null && comment.getParent().getAuthor() != null && recipientId.equals(comment.getParent().getAuthor().getId())) {
-            return "REPLY_TO_COMMENT";
-        }
-        if (review.getAuthor() != null && recipientId.equals(review.getAuthor().getId())) {
-            return "COMMENT_ON_OWN_REVIEW";
-        }
-        return "NEW_COMMENT_ON_WATCHED_REVIEW";
+    public SseEmitter openStream(Long userId, String lastEventId) {
+        requireUserId(userId);
+        SseEmitter emitter = notificationStreams.open(userId);
+        KeysetCursor after = parseEventId(lastEventId);
+        List<NotificationDto> replay = after == null ? List.of() : readTransaction.execute(status -> toDtos(
+                notificationRepository.findByRecipientIdUpdatedAfter(userId, after.getCreatedAt(), after.getId(), PageRequest.of(0, STREAM_REPLAY_LIMIT))));
+        long unread = unreadCounter.unread(userId);
+        replay.forEach(dto -> notificationStreams.send(userId, emitter, "notification", eventId(dto), dto));
+        notificationStreams.send(userId, emitter, "unread-count", null, Map.of("count", unread));
+        return emitter;
     }
 
-    private String resolveMessage(String type, String actorName) {
-        String name = StringUtils.hasText(actorName) ? actorName : "Người dùng";
-        if ("REPLY_TO_COMMENT".equals(type)) {
-            return name + " đã trả lời bình luận của bạn";
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onDelivered(NotificationsDeliveredEvent event) {
+        for (Long userId : event.getRecipientIds()) {
+            if (!notificationStreams.connected(userId)) {
+                continue;
+            }
+            loadSince(userId, event.getSince()).forEach(dto -> notificationStreams.send(userId, "notification", eventId(dto), dto));
+            pushUnreadCount(userId);
         }
-        if ("COMMENT_ON_OWN_REVIEW".equals(type)) {
-            return name + " đã bình luận bài viết của bạn";
+    }
+
+    private List<NotificationDto> loadSince(Long userId, Instant since) {
+        return toDtos(notificationRepository.findByRecipientIdAndUpdatedAtGreaterThanEqualOrderByUpdatedAtAscIdAsc(userId, since, PageRequest.of(0, STREAM_REPLAY_LIMIT)));
+    }
+
+    private List<NotificationDto> toDtos(List<Notification> notifications) {
+        List<NotificationDto> dtos = notifications.stream().map(DtoMapper::toNotificationDto).toList();
+        applySampleActors(notifications, dtos);
+        return dtos;
+    }
+
+    private void pushUnreadCount(Long userId) {
+        if (notificationStreams.connected(userId)) {
+            notificationStreams.send(userId, "unread-count", null, Map.of("count", unreadCounter.unread(userId)));
         }
-        if ("FOLLOW".equals(type)) {
-            return name + " đã theo dõi bạn";
+    }
+
+    private String eventId(NotificationDto dto) {
+        return dto.getUpdatedAt() != null ? KeysetCursor.of(dto.getUpdatedAt(), dto.getId()).encode() : null;
+    }
+
+    private KeysetCursor parseEventId(String lastEventId) {
+        try {
+            return KeysetCursor.decode(lastEventId);
+        } catch (ApiException ex) {
+            return null;
         }
-        if ("LIKE_REVIEW".equals(type)) {
-            return name + " đã thích bài viết của bạn";
+    }
+
+    private void requireUserId(Long userId) {
+        if (userId == null) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "Bạn cần đăng nhập");
         }
-        return name + " đã bình luận bài viết bạn đang theo dõi";
     }
 
-    private void createNotification(User recipient, User actor, Review review, Comment comment, String type, String message) {
-        createNotification(recipient, actor, review, comment, type, message, Instant.now());
+    private void enqueue(String type, Long actorId, Long recipientId, Long reviewId, Long commentId) {
+        enqueue(List.of(event(type, actorId, recipientId, reviewId, commentId)));
     }
 
-    private void createNotification(User recipient, User actor, Review review, Comment comment, String type, String message, Instant createdAt) {
-        Notification notification = new Notification();
-        notification.setRecipient(recipient);
-        notification.setActor(actor);
-        notification.setReview(review);
-        notification.setComment(comment);
-        notification.setCreatedAt(createdAt);
-        notification.setReadFlag(false);
-        notification.setType(type);
-        notification.setMessage(message);
-        notificationRepository.save(notification);
+    private NotificationOutbox event(String type, Long actorId, Long recipientId, Long reviewId, Long commentId) {
+        NotificationOutbox event = new NotificationOutbox();
+        event.setType(type);
+        event.setActorId(actorId);
+        event.setRecipientId(recipientId);
+        event.setReviewId(reviewId);
+        event.setCommentId(commentId);
+        event.setOrderingKey(recipientId != null ? "user:" + recipientId : "review:" + reviewId);
+        event.setCreatedAt(Instant.now());
+        return event;
     }
 
-    private User requireUser(String email) {
-        if (!StringUtils.hasText(email)) {
-            throw new ApiException(HttpStatus.UNAUTHORIZED, "Bạn cần đăng nhập");
+    private void enqueue(List<NotificationOutbox> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        outboxRepository.saveAll(events);
+        afterCommit(notificationDispatcher::signal);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
         }
-        return userRepository.findByEmail(email).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
     }
 }
@@ -0,0 +1,186 @@
+package com.example.autoreview.publicsite.service;
+
+import com.example.autoreview.exception.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+public class NotificationStreams {
+
+    private final Map<Long, List<Stream>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger open = new AtomicInteger();
+    private final ThreadPoolExecutor sender;
+    private final Counter dropped;
+    private final int maxConnections;
+    private final int maxPerUser;
+    private final int maxQueuedEvents;
+    private final long timeoutMillis;
+
+    public NotificationStreams(
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.stream.max-connections:10000}") int maxConnections,
+            @Value("${app.notifications.stream.max-per-user:5}") int maxPerUser,
+            @Value("${app.notifications.stream.max-queued-events:100}") int maxQueuedEvents,
+            @Value("${app.notifications.stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${app.notifications.stream.sender-threads:2}") int senderThreads) {
+        this.maxConnections = maxConnections;
+        this.maxPerUser = maxPerUser;
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.timeoutMillis = timeoutMillis;
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        this.dropped = Counter.builder("notifications.stream.dropped").register(meterRegistry);
+        Gauge.builder("notifications.stream.connections", open, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public SseEmitter open(Long userId) {
+        if (open.incrementAndGet() > maxConnections) {
+            open.decrementAndGet();
+            throw new ApiException(HttpStatus.SERVICE_UNAVAILABLE, "Too many notification streams");
+        }
+        Stream stream = new Stream(userId, new SseEmitter(timeoutMillis));
+        List<Stream> evicted = new ArrayList<>();
+        emitters.compute(userId, (id, userStreams) -> {
+            List<Stream> list = userStreams != null ? userStreams : new CopyOnWriteArrayList<>();
+            while (list.size() >= maxPerUser) {
+                evicted.add(list.remove(0));
+                open.decrementAndGet();
+            }
+            list.add(stream);
+            return list;
+        });
+        evicted.forEach(evictedStream -> evictedStream.emitter.complete());
+        Runnable release = () -> remove(stream);
+        stream.emitter.onCompletion(release);
+        stream.emitter.onTimeout(release);
+        stream.emitter.onError(error -> release.run());
+        return stream.emitter;
+    }
+
+    public boolean connected(Long userId) {
+        List<Stream> userStreams = emitters.get(userId);
+        return userStreams != null && !userStreams.isEmpty();
+    }
+
+    public void send(Long userId, String name, String id, Object data) {
+        List<Stream> userStreams = emitters.get(userId);
+        if (userStreams == null) {
+            return;
+        }
+        userStreams.forEach(stream -> stream.enqueue(event(name, id, data)));
+    }
+
+    public void send(Long userId, SseEmitter emitter, String name, String id, Object data) {
+        List<Stream> userStreams = emitters.get(userId);
+        if (userStreams == null) {
+            return;
+        }
+        userStreams.stream()
+                .filter(stream -> stream.emitter == emitter)
+                .findFirst()
+                .ifPresent(stream -> stream.enqueue(event(name, id, data)));
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        emitters.values().forEach(userStreams -> userStreams.forEach(stream -> stream.enqueue(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emitters.values().forEach(userStreams -> userStreams.forEach(stream -> stream.emitter.complete()));
+        emitters.clear();
+        sender.shutdownNow();
+    }
+
+    private static SseEmitter.SseEventBuilder event(String name, String id, Object data) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+        if (id != null) {
+            event.id(id);
+        }
+        return event;
+    }
+
+    private void remove(Stream stream) {
+        emitters.computeIfPresent(stream.userId, (id, userStreams) -> {
+            if (userStreams.remove(stream)) {
+                open.decrementAndGet();
+            }
+            return userStreams.isEmpty() ? null : userStreams;
+        });
+    }
+
+    private final class Stream {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Stream(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (queued.incrementAndGet() > maxQueuedEvents) {
+                dropped.increment();
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            pending.add(event);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::flush);
+            } catch (RejectedExecutionException ex) {
+                scheduled.set(false);
+            }
+        }
+
+        private void flush() {
+            SseEmitter.SseEventBuilder event;
+            while ((event = pending.poll()) != null) {
+                queued.decrementAndGet();
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException ex) {
+                    remove(this);
+                    pending.clear();
+                    return;
+                }
+            }
+            scheduled.set(false);
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.autoreview.publicsite.service;
+
+import java.time.Instant;
+import java.util.Set;
+
+public class NotificationsDeliveredEvent {
+
+    private final Set<Long> recipientIds;
+    private final Instant since;
+
+    public NotificationsDeliveredEvent(Set<Long> recipientIds, Instant since) {
+        this.recipientIds = recipientIds;
+        this.since = since;
+    }
+
+    public Set<Long> getRecipientIds() {
+        return recipientIds;
+    }
+
+    public Instant getSince() {
+        return since;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.autoreview.publicsite.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ReviewEnricher {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewEnricher.class);
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final long deadlineNanos;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate stageTransaction;
+
+    public ReviewEnricher(
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.enrichment.deadline-ms:300}") long deadlineMillis,
+            @Value("${app.enrichment.max-concurrency:8}") int maxConcurrency) {
+        this.meterRegistry = meterRegistry;
+        this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        this.permits = new Semaphore(maxConcurrency);
+        this.executor = createExecutor(maxConcurrency);
+        this.stageTransaction = new TransactionTemplate(transactionManager);
+        this.stageTransaction.setReadOnly(true);
+        this.stageTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.stageTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(deadlineMillis + 999)));
+    }
+
+    public static <T> Stage<T> stage(String name, Supplier<T> loader, Consumer<T> applier) {
+        return new Stage<>(name, loader, applier);
+    }
+
+    public void run(List<Stage<?>> stages) {
+        if (stages.isEmpty()) {
+            return;
+        }
+        long deadline = System.nanoTime() + deadlineNanos;
+        List<Running<?>> running = new ArrayList<>(stages.size());
+        for (Stage<?> stage : stages) {
+            running.add(submit(stage, deadline));
+        }
+        for (Running<?> task : running) {
+            task.await(deadline);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Running<T> submit(Stage<T> stage, long deadline) {
+        long started = System.nanoTime();
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
+            try {
+                if (!permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    return null;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            try {
+                return stageTransaction.execute(status -> stage.loader.get());
+            } finally {
+                permits.release();
+            }
+        }, executor);
+        return new Running<>(stage, future, started);
+    }
+
+    private void record(String stage, String outcome, long started) {
+        Timer.builder("review.enrichment")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    private static ExecutorService createExecutor(int maxConcurrency) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(maxConcurrency * 32), new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+    }
+
+    public static final class Stage<T> {
+
+        private final String name;
+        private final Supplier<T> loader;
+        private final Consumer<T> applier;
+
+        private Stage(String name, Supplier<T> loader, Consumer<T> applier) {
+            this.name = name;
+            this.loader = loader;
+            this.applier = applier;
+        }
+    }
+
+    private final class Running<T> {
+
+        private final Stage<T> stage;
+        private final CompletableFuture<T> future;
+        private final long started;
+
+        private Running(Stage<T> stage, CompletableFuture<T> future, long started) {
+            this.stage = stage;
+            this.future = future;
+            this.started = started;
+        }
+
+        private void await(long deadline) {
+            try {
+                T result = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (result != null) {
+                    stage.applier.accept(result);
+                }
+                record(stage.name, "success", started);
+            } catch (TimeoutException ex) {
+                future.cancel(true);
+                record(stage.name, "timeout", started);
+            } catch (ExecutionException ex) {
+                log.warn("Review enrichment stage {} failed", stage.name, ex.getCause());
+                record(stage.name, "error", started);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                record(stage.name, "interrupted", started);
+            }
+        }
+    }
+}
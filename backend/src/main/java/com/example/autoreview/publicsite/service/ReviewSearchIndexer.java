@@ -0,0 +1,108 @@
+package com.example.autoreview.publicsite.service;
+
+import com.example.autoreview.domain.ReviewStatus;
+import com.example.autoreview.domain.VehicleBrand;
+import com.example.autoreview.repository.ReviewRepository;
+import com.example.autoreview.repository.VehicleBrandRepository;
+import com.example.autoreview.repository.projection.ReviewSummary;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class ReviewSearchIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewSearchIndexer.class);
+
+    private final SearchEngine searchEngine;
+    private final ReviewSuggester reviewSuggester;
+    private final FuzzyVocabulary fuzzyVocabulary;
+    private final SearchResultCache searchResultCache;
+    private final ReviewRepository reviewRepository;
+    private final VehicleBrandRepository vehicleBrandRepository;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Set<Long> refreshedDuringRebuild;
+
+    public ReviewSearchIndexer(SearchEngine searchEngine, ReviewSuggester reviewSuggester, FuzzyVocabulary fuzzyVocabulary, SearchResultCache searchResultCache, ReviewRepository reviewRepository, VehicleBrandRepository vehicleBrandRepository) {
+        this.searchEngine = searchEngine;
+        this.reviewSuggester = reviewSuggester;
+        this.fuzzyVocabulary = fuzzyVocabulary;
+        this.searchResultCache = searchResultCache;
+        this.reviewRepository = reviewRepository;
+        this.vehicleBrandRepository = vehicleBrandRepository;
+    }
+
+    public void refresh(Long reviewId) {
+        if (reviewId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reindex(reviewId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reindex(reviewId);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.search.rebuild-cron:0 45 3 * * *}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            refreshedDuringRebuild = ConcurrentHashMap.newKeySet();
+            int indexed;
+            try {
+                List<ReviewSummary> approved = reviewRepository.findAllSummariesByStatus(ReviewStatus.APPROVED);
+                List<SearchDocument> documents = approved.stream().map(SearchDocument::from).toList();
+                searchEngine.rebuild(documents);
+                List<VehicleBrand> brands = vehicleBrandRepository.findAll();
+                reviewSuggester.rebuild(brands, approved);
+                fuzzyVocabulary.rebuild(brands, approved);
+                indexed = documents.size();
+            } finally {
+                Set<Long> replay = refreshedDuringRebuild;
+                refreshedDuringRebuild = null;
+                replay.forEach(this::reindex);
+                searchResultCache.invalidate();
+            }
+            log.info("Rebuilt search index with {} reviews", indexed);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void reindex(Long reviewId) {
+        Set<Long> pending = refreshedDuringRebuild;
+        if (pending != null) {
+            pending.add(reviewId);
+        }
+        List<ReviewSummary> rows = reviewRepository.findSummariesByIds(List.of(reviewId));
+        boolean approved = !rows.isEmpty() && rows.get(0).getStatus() == ReviewStatus.APPROVED;
+        if (!approved && !searchEngine.contains(reviewId)) {
+            return;
+        }
+        if (!approved) {
+            searchEngine.remove(reviewId);
+            reviewSuggester.remove(reviewId);
+            fuzzyVocabulary.remove(reviewId);
+        } else {
+            searchEngine.index(SearchDocument.from(rows.get(0)));
+            reviewSuggester.add(rows.get(0));
+            fuzzyVocabulary.add(rows.get(0));
+        }
+        searchResultCache.invalidate();
+    }
+}
@@ -5,6 +5,8 @@ import com.example.autoreview.publicsite.dto.request.CreateCommentRequest;
 import com.example.autoreview.publicsite.dto.request.CreateReviewRequest;
 import com.example.autoreview.publicsite.dto.response.ReviewDto;
 import com.example.autoreview.publicsite.dto.response.ReviewListResponse;
+import com.example.autoreview.publicsite.dto.response.ReviewSummaryDto;
+import com.example.autoreview.publicsite.dto.response.SuggestionDto;
 import com.example.autoreview.publicsite.dto.request.UpdateReviewRequest;
 import com.example.autoreview.domain.Comment;
 import com.example.autoreview.domain.CommentLike;
@@ -22,9 +24,14 @@ import com.example.autoreview.repository.ReviewRepository;
 import com.example.autoreview.repository.UserFollowRepository;
 import com.example.autoreview.repository.UserRepository;
 import com.example.autoreview.repository.VehicleBrandRepository;
+import com.example.autoreview.repository.projection.ReviewSummary;
 import com.example.autoreview.publicsite.service.NotificationService;
+import com.example.autoreview.security.AuthenticatedUser;
 import com.example.autoreview.security.Roles;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,7 +39,6 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,8 +55,17 @@ public class ReviewService {
     private final ReviewLikeRepository reviewLikeRepository;
     private final UserFollowRepository userFollowRepository;
     private final NotificationService notificationService;
-
-    public ReviewService(ReviewRepository reviewRepository, VehicleBrandRepository vehicleBrandRepository, UserRepository userRepository, CommentRepository commentRepository, CommentLikeRepository commentLikeRepository, ReviewLikeRepository reviewLikeRepository, UserFollowRepository userFollowRepository, NotificationService notificationService) {
+    private final ReviewViewCounter reviewViewCounter;
+    private final ReviewViewerFilter reviewViewerFilter;
+    private final ReviewTrendingEngine reviewTrendingEngine;
+    private final ReviewEnricher reviewEnricher;
+    private final SearchEngine searchEngine;
+    private final ReviewSearchIndexer reviewSearchIndexer;
+    private final ReviewSuggester reviewSuggester;
+    private final FuzzyVocabulary fuzzyVocabulary;
+    private final SearchResultCache searchResultCache;
+
+    public ReviewService(ReviewRepository reviewRepository, VehicleBrandRepository vehicleBrandRepository, UserRepository userRepository, CommentRepository commentRepository, CommentLikeRepository commentLikeRepository, ReviewLikeRepository reviewLikeRepository, UserFollowRepository userFollowRepository, NotificationService notificationService, ReviewViewCounter reviewViewCounter, ReviewViewerFilter reviewViewerFilter, ReviewTrendingEngine reviewTrendingEngine, ReviewEnricher reviewEnricher, SearchEngine searchEngine, ReviewSearchIndexer reviewSearchIndexer, ReviewSuggester reviewSuggester, FuzzyVocabulary fuzzyVocabulary, SearchResultCache searchResultCache) {
         this.reviewRepository = reviewRepository;
         this.vehicleBrandRepository = vehicleBrandRepository;
         this.userRepository = userRepository;
@@ -59,83 +74,70 @@ public class ReviewService {
         this.reviewLikeRepository = reviewLikeRepository;
         this.userFollowRepository = userFollowRepository;
         this.notificationService = notificationService;
-    }
-
-    private void applyAuthorReviewCounts(List<ReviewDto> dtos) {
-        Set<Long> authorIds = dtos.stream()
-                .map(ReviewDto::getAuthorId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        if (authorIds.isEmpty()) {
+        this.reviewViewCounter = reviewViewCounter;
+        this.reviewViewerFilter = reviewViewerFilter;
+        this.reviewTrendingEngine = reviewTrendingEngine;
+        this.reviewEnricher = reviewEnricher;
+        this.searchEngine = searchEngine;
+        this.reviewSearchIndexer = reviewSearchIndexer;
+        this.reviewSuggester = reviewSuggester;
+        this.fuzzyVocabulary = fuzzyVocabulary;
+        this.searchResultCache = searchResultCache;
+    }
+
+    private void enrich(List<? extends ReviewSummaryDto> dtos, User viewer) {
+        if (viewer == null || dtos.isEmpty()) {
             return;
         }
-        Map<Long, Long> counts = reviewRepository.countApprovedByAuthorIds(authorIds).stream()
-                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
-        dtos.forEach(dto -> {
-            Long authorId = dto.getAuthorId();
-            if (authorId != null) {
-                dto.setAuthorReviewCount(counts.getOrDefault(authorId, 0L).intValue());
-            }
-        });
-    }
-
-    private void applyCommentAuthorReviewCounts(List<CommentDto> dtos) {
-        Set<Long> authorIds = dtos.stream()
-                .map(CommentDto::getAuthorUsername)
+        Set<Long> ids = dtos.stream()
+                .map(ReviewSummaryDto::getId)
                 .filter(Objects::nonNull)
-                .map(username -> userRepository.findByUsername(username).map(User::getId).orElse(null))
+                .collect(Collectors.toSet());
+        Set<Long> authorIds = dtos.stream()
+                .map(ReviewSummaryDto::getAuthorId)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
-        if (authorIds.isEmpty()) {
-            return;
+        List<ReviewEnricher.Stage<?>> stages = new ArrayList<>();
+        if (!ids.isEmpty()) {
+            stages.add(ReviewEnricher.stage("liked", () -> reviewLikeRepository.findLikedReviewIds(viewer, ids),
+                    likedIds -> dtos.forEach(dto -> dto.setLiked(likedIds.contains(dto.getId())))));
         }
-        Map<Long, Long> counts = reviewRepository.countApprovedByAuthorIds(authorIds).stream()
-                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
-        dtos.forEach(dto -> {
-            Long authorId = dto.getAuthorUsername() != null
-                    ? userRepository.findByUsername(dto.getAuthorUsername()).map(User::getId).orElse(null)
-                    : null;
-            if (authorId != null) {
-                dto.setAuthorReviewCount(counts.getOrDefault(authorId, 0L).intValue());
-            }
-        });
+        if (!authorIds.isEmpty()) {
+            stages.add(ReviewEnricher.stage("authorFollowing", () -> userFollowRepository.findFollowingIds(viewer, authorIds),
+                    followingIds -> dtos.forEach(dto -> dto.setAuthorFollowing(followingIds.contains(dto.getAuthorId())))));
+        }
+        reviewEnricher.run(stages);
     }
 
-    private User findUser(String email) {
-        if (!StringUtils.hasText(email)) {
-            return null;
+    private User viewer(Long viewerId) {
+        return viewerId != null ? userRepository.getReferenceById(viewerId) : null;
+    }
+
+    private User requireUser(Long userId) {
+        if (userId == null || !userRepository.existsById(userId)) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "Bạn cần đăng nhập");
         }
-        return userRepository.findByEmail(email).orElse(null);
+        return userRepository.getReferenceById(userId);
     }
 
-    private void applyReviewLiked(List<ReviewDto> dtos, User user) {
-        if (user == null) {
-            return;
+    private void requireAdmin(AuthenticatedUser approver) {
+        if (approver == null || approver.id() == null || !userRepository.existsById(approver.id())) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "Bạn cần đăng nhập");
         }
-        Set<Long> ids = dtos.stream()
-                .map(ReviewDto::getId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        if (ids.isEmpty()) {
-            return;
+        if (!hasAdminRole(approver.roles())) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "Not authorized");
         }
-        Set<Long> likedIds = reviewLikeRepository.findLikedReviewIds(user, ids);
-        dtos.forEach(dto -> dto.setLiked(likedIds.contains(dto.getId())));
     }
 
-    private void applyAuthorFollowing(List<ReviewDto> dtos, User user) {
-        if (user == null) {
-            return;
+    private User loadUser(Long userId) {
+        if (userId == null) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "Bạn cần đăng nhập");
         }
-        Set<Long> authorIds = dtos.stream()
-                .map(ReviewDto::getAuthorId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        if (authorIds.isEmpty()) {
-            return;
-        }
-        Set<Long> followingIds = userFollowRepository.findFollowingIds(user, authorIds);
-        dtos.forEach(dto -> dto.setAuthorFollowing(followingIds.contains(dto.getAuthorId())));
+        return userRepository.findById(userId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
+    }
+
+    private boolean isAuthor(Review review, Long userId) {
+        return userId != null && review.getAuthor() != null && userId.equals(review.getAuthor().getId());
     }
 
     private void applyCommentLiked(List<CommentDto> dtos, User user) {
@@ -154,145 +156,224 @@ public class ReviewService {
     }
 
     @Transactional(readOnly = true)
-    public ReviewListResponse getFeed(String brand, String fuelType, String priceSegment, int page, int size, String email) {
-        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Review> reviews = reviewRepository.findByFilters(ReviewStatus.APPROVED, brand, fuelType, priceSegment, pageable);
-        List<ReviewDto> dtos = reviews.getContent().stream().map(DtoMapper::toReviewDto).toList();
-        applyAuthorReviewCounts(dtos);
-        User user = findUser(email);
-        applyReviewLiked(dtos, user);
-        applyAuthorFollowing(dtos, user);
-        return new ReviewListResponse(dtos, reviews.getTotalElements());
+    public ReviewListResponse getFeed(String brand, String fuelType, String priceSegment, int page, int size, Long viewerId, boolean facets) {
+        PageRequest pageable = PageRequest.of(page, size);
+        Page<ReviewSummary> reviews = reviewRepository.findSummariesByFilters(ReviewStatus.APPROVED, brand, fuelType, priceSegment, pageable);
+        List<ReviewSummaryDto> dtos = reviews.getContent().stream().map(DtoMapper::toReviewSummaryDto).toList();
+        enrich(dtos, viewer(viewerId));
+        ReviewListResponse response = new ReviewListResponse(dtos, reviews.getTotalElements());
+        if (reviews.hasNext() && !reviews.getContent().isEmpty()) {
+            ReviewSummary last = reviews.getContent().get(reviews.getContent().size() - 1);
+            response.setNextCursor(KeysetCursor.of(last.getCreatedAt(), last.getId()).encode());
+        }
+        if (facets) {
+            response.setFacets(facetCounts(null, brand, fuelType, priceSegment));
+        }
+        return response;
     }
 
     @Transactional(readOnly = true)
-    public ReviewListResponse search(String query, int page, int size, String email) {
+    public ReviewListResponse getFeedByCursor(String brand, String fuelType, String priceSegment, String cursor, int size, Long viewerId) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Math.max(1, size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<ReviewSummary> rows;
+        if (after == null) {
+            rows = reviewRepository.findFirstSummariesByFilters(ReviewStatus.APPROVED, brand, fuelType, priceSegment, limit);
+        } else if (after.getCreatedAt() == null) {
+            rows = reviewRepository.findUndatedSummariesByFiltersAfter(ReviewStatus.APPROVED, brand, fuelType, priceSegment, after.getId(), limit);
+        } else {
+            rows = reviewRepository.findSummariesByFiltersAfter(ReviewStatus.APPROVED, brand, fuelType, priceSegment, after.getCreatedAt(), after.getId(), limit);
+        }
+        boolean hasMore = rows.size() > pageSize;
+        List<ReviewSummary> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        List<ReviewSummaryDto> dtos = pageRows.stream().map(DtoMapper::toReviewSummaryDto).toList();
+        enrich(dtos, viewer(viewerId));
+        String nextCursor = null;
+        if (hasMore) {
+            ReviewSummary last = pageRows.get(pageRows.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new ReviewListResponse(dtos, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public ReviewListResponse search(String query, int page, int size, Long viewerId, boolean facets) {
         if (!StringUtils.hasText(query)) {
             return new ReviewListResponse(List.of(), 0);
         }
-        PageRequest pageable = PageRequest.of(page, size);
-        Page<Review> reviews = reviewRepository.searchApproved(query.trim(), pageable);
-        List<ReviewDto> dtos = reviews.getContent().stream().map(DtoMapper::toReviewDto).toList();
-        applyAuthorReviewCounts(dtos);
-        User user = findUser(email);
-        applyReviewLiked(dtos, user);
-        applyAuthorFollowing(dtos, user);
-        return new ReviewListResponse(dtos, reviews.getTotalElements());
+        int pageIndex = Math.max(0, page);
+        int pageSize = Math.max(1, size);
+        String key = SearchResultCache.key(query, pageIndex, pageSize, facets);
+        SearchResultCache.Page result = searchResultCache.get(key);
+        if (result == null) {
+            long version = searchResultCache.version();
+            result = searchPage(query.trim(), pageIndex, pageSize, facets);
+            searchResultCache.put(key, version, result);
+        }
+        List<ReviewSummaryDto> dtos = List.of();
+        if (!result.ids().isEmpty()) {
+            Map<Long, ReviewSummary> byId = reviewRepository.findSummariesByIds(result.ids()).stream()
+                    .filter(summary -> summary.getStatus() == ReviewStatus.APPROVED)
+                    .collect(Collectors.toMap(ReviewSummary::getId, summary -> summary));
+            dtos = result.ids().stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .map(DtoMapper::toReviewSummaryDto)
+                    .toList();
+            enrich(dtos, viewer(viewerId));
+        }
+        ReviewListResponse response = new ReviewListResponse(dtos, result.total());
+        response.setDidYouMean(result.didYouMean());
+        response.setFacets(result.facets());
+        return response;
+    }
+
+    private SearchResultCache.Page searchPage(String query, int page, int size, boolean facets) {
+        String effectiveQuery = query;
+        SearchEngine.Hits hits = searchEngine.search(effectiveQuery, page * size, size);
+        String didYouMean = null;
+        if (hits.total() == 0) {
+            didYouMean = fuzzyVocabulary.correct(effectiveQuery).orElse(null);
+            if (didYouMean != null) {
+                effectiveQuery = didYouMean;
+                hits = searchEngine.search(effectiveQuery, page * size, size);
+            }
+        }
+        return new SearchResultCache.Page(hits.ids(), hits.total(), didYouMean, facets ? facetCounts(effectiveQuery, null, null, null) : null);
+    }
+
+    private Map<String, Map<String, Long>> facetCounts(String query, String brand, String fuelType, String priceSegment) {
+        Map<SearchEngine.Facet, String> filters = new EnumMap<>(SearchEngine.Facet.class);
+        filters.put(SearchEngine.Facet.BRAND, brand);
+        filters.put(SearchEngine.Facet.FUEL_TYPE, fuelType);
+        filters.put(SearchEngine.Facet.PRICE_SEGMENT, priceSegment);
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        searchEngine.facets(query, filters).forEach((facet, values) -> counts.put(facet.param(), values));
+        return counts;
     }
 
     @Transactional(readOnly = true)
-    public ReviewListResponse listByAuthor(String email, int page, int size) {
-        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Review> reviews = reviewRepository.findByAuthorEmailOrderByCreatedAtDesc(email, pageable);
-        List<ReviewDto> dtos = reviews.getContent().stream().map(DtoMapper::toReviewDto).toList();
-        applyAuthorReviewCounts(dtos);
+    public ReviewListResponse listByAuthor(Long authorId, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size);
+        Page<ReviewSummary> reviews = reviewRepository.findSummariesByAuthorId(authorId, pageable);
+        List<ReviewSummaryDto> dtos = reviews.getContent().stream().map(DtoMapper::toReviewSummaryDto).toList();
         return new ReviewListResponse(dtos, reviews.getTotalElements());
     }
 
     @Transactional(readOnly = true)
-    public ReviewListResponse listPublicByAuthor(Long authorId, int page, int size, String email) {
-        User viewer = findUser(email);
+    public ReviewListResponse listPublicByAuthor(Long authorId, int page, int size, Long viewerId) {
+        User viewer = viewer(viewerId);
         userRepository.findById(authorId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
-        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Review> reviews = reviewRepository.findByAuthorIdAndStatusOrderByCreatedAtDesc(authorId, ReviewStatus.APPROVED, pageable);
-        List<ReviewDto> dtos = reviews.getContent().stream().map(DtoMapper::toReviewDto).toList();
-        applyAuthorReviewCounts(dtos);
-        applyReviewLiked(dtos, viewer);
-        applyAuthorFollowing(dtos, viewer);
+        PageRequest pageable = PageRequest.of(page, size);
+        Page<ReviewSummary> reviews = reviewRepository.findSummariesByAuthorIdAndStatus(authorId, ReviewStatus.APPROVED, pageable);
+        List<ReviewSummaryDto> dtos = reviews.getContent().stream().map(DtoMapper::toReviewSummaryDto).toList();
+        enrich(dtos, viewer);
         return new ReviewListResponse(dtos, reviews.getTotalElements());
     }
 
     @Transactional(readOnly = true)
-    public ReviewListResponse listPublicByAuthorUsername(String username, int page, int size, String email) {
-        User viewer = findUser(email);
+    public ReviewListResponse listPublicByAuthorUsername(String username, int page, int size, Long viewerId) {
+        User viewer = viewer(viewerId);
         userRepository.findByUsername(username).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
-        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Review> reviews = reviewRepository.findByAuthorUsernameAndStatusOrderByCreatedAtDesc(username, ReviewStatus.APPROVED, pageable);
-        List<ReviewDto> dtos = reviews.getContent().stream().map(DtoMapper::toReviewDto).toList();
-        applyAuthorReviewCounts(dtos);
-        applyReviewLiked(dtos, viewer);
-        applyAuthorFollowing(dtos, viewer);
+        PageRequest pageable = PageRequest.of(page, size);
+        Page<ReviewSummary> reviews = reviewRepository.findSummariesByAuthorUsernameAndStatus(username, ReviewStatus.APPROVED, pageable);
+        List<ReviewSummaryDto> dtos = reviews.getContent().stream().map(DtoMapper::toReviewSummaryDto).toList();
+        enrich(dtos, viewer);
         return new ReviewListResponse(dtos, reviews.getTotalElements());
     }
 
     @Transactional(readOnly = true)
     public ReviewListResponse listAll(int page, int size) {
-        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Review> reviews = reviewRepository.findAll(pageable);
-        List<ReviewDto> dtos = reviews.getContent().stream().map(DtoMapper::toReviewDto).toList();
-        applyAuthorReviewCounts(dtos);
+        PageRequest pageable = PageRequest.of(page, size);
+        Page<ReviewSummary> reviews = reviewRepository.findAllSummaries(pageable);
+        List<ReviewSummaryDto> dtos = reviews.getContent().stream().map(DtoMapper::toReviewSummaryDto).toList();
         return new ReviewListResponse(dtos, reviews.getTotalElements());
     }
 
     @Transactional(readOnly = true)
     public ReviewListResponse listByStatus(ReviewStatus status, int page, int size) {
-        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Review> reviews = reviewRepository.findByStatus(status, pageable);
-        List<ReviewDto> dtos = reviews.getContent().stream().map(DtoMapper::toReviewDto).toList();
-        applyAuthorReviewCounts(dtos);
+        PageRequest pageable = PageRequest.of(page, size);
+        Page<ReviewSummary> reviews = reviewRepository.findSummariesByStatus(status, pageable);
+        List<ReviewSummaryDto> dtos = reviews.getContent().stream().map(DtoMapper::toReviewSummaryDto).toList();
         return new ReviewListResponse(dtos, reviews.getTotalElements());
     }
 
+    public List<SuggestionDto> suggest(String query, int limit) {
+        return reviewSuggester.suggest(query, Math.min(Math.max(1, limit), ReviewSuggester.TOP_K)).stream()
+                .map(suggestion -> new SuggestionDto(suggestion.kind().name(), suggestion.text(), suggestion.id(), suggestion.slug()))
+                .toList();
+    }
+
     @Transactional(readOnly = true)
-    public List<ReviewDto> mostViewed(int limit, String email) {
-        PageRequest pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "views"));
-        List<ReviewDto> dtos = reviewRepository.findMostViewed(pageable).getContent().stream().map(DtoMapper::toReviewDto).toList();
-        applyAuthorReviewCounts(dtos);
-        User user = findUser(email);
-        applyReviewLiked(dtos, user);
-        applyAuthorFollowing(dtos, user);
+    public List<ReviewSummaryDto> mostViewed(int limit, Long viewerId) {
+        return ranked(reviewTrendingEngine.mostViewed(limit), viewerId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReviewSummaryDto> trending(ReviewTrendingEngine.Window window, int limit, Long viewerId) {
+        return ranked(reviewTrendingEngine.top(window, limit), viewerId);
+    }
+
+    private List<ReviewSummaryDto> ranked(List<Long> ids, Long viewerId) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ReviewSummary> byId = reviewRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(ReviewSummary::getId, summary -> summary));
+        List<ReviewSummaryDto> dtos = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(DtoMapper::toReviewSummaryDto)
+                .toList();
+        enrich(dtos, viewer(viewerId));
         return dtos;
     }
 
     @Transactional(readOnly = true)
     public ReviewDto getAdmin(Long id) {
-        Review review = reviewRepository.findById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
+        Review review = reviewRepository.findDetailedById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
         ReviewDto dto = DtoMapper.toReviewDto(review);
-        applyAuthorReviewCounts(List.of(dto));
         return dto;
     }
 
-    @Transactional
-    public ReviewDto getPublic(Long id, String email) {
-        Review review = reviewRepository.findById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
-        User user = findUser(email);
-        boolean isOwner = user != null && review.getAuthor() != null && email != null && email.equals(review.getAuthor().getEmail());
-        if (review.getStatus() != ReviewStatus.APPROVED && !isOwner) {
+    @Transactional(readOnly = true)
+    public ReviewDto getPublic(Long id, Long viewerId, String viewerKey) {
+        Review review = reviewRepository.findDetailedById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
+        User user = viewer(viewerId);
+        if (review.getStatus() != ReviewStatus.APPROVED && !isAuthor(review, viewerId)) {
             throw new ApiException(HttpStatus.NOT_FOUND, "Review not found");
         }
-        if (review.getStatus() == ReviewStatus.APPROVED) {
-            review.setViews((review.getViews() == null ? 0 : review.getViews()) + 1);
-            reviewRepository.save(review);
+        if (review.getStatus() == ReviewStatus.APPROVED && reviewViewerFilter.firstView(review.getId(), viewerKey)) {
+            reviewViewCounter.increment(review.getId());
+            reviewTrendingEngine.recordView(review.getId());
         }
         ReviewDto dto = DtoMapper.toReviewDto(review);
-        applyAuthorReviewCounts(List.of(dto));
-        applyReviewLiked(List.of(dto), user);
-        applyAuthorFollowing(List.of(dto), user);
+        dto.setViews((int) ((review.getViews() == null ? 0 : review.getViews()) + reviewViewCounter.pending(review.getId())));
+        enrich(List.of(dto), user);
         return dto;
     }
 
-    @Transactional
-    public ReviewDto getPublicBySlug(String slug, String email) {
+    @Transactional(readOnly = true)
+    public ReviewDto getPublicBySlug(String slug, Long viewerId, String viewerKey) {
         Review review = reviewRepository.findBySlug(slug).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
-        User user = findUser(email);
-        boolean isOwner = user != null && review.getAuthor() != null && email != null && email.equals(review.getAuthor().getEmail());
-        if (review.getStatus() != ReviewStatus.APPROVED && !isOwner) {
+        User user = viewer(viewerId);
+        if (review.getStatus() != ReviewStatus.APPROVED && !isAuthor(review, viewerId)) {
             throw new ApiException(HttpStatus.NOT_FOUND, "Review not found");
         }
-        if (review.getStatus() == ReviewStatus.APPROVED) {
-            review.setViews((review.getViews() == null ? 0 : review.getViews()) + 1);
-            reviewRepository.save(review);
+        if (review.getStatus() == ReviewStatus.APPROVED && reviewViewerFilter.firstView(review.getId(), viewerKey)) {
+            reviewViewCounter.increment(review.getId());
+            reviewTrendingEngine.recordView(review.getId());
         }
         ReviewDto dto = DtoMapper.toReviewDto(review);
-        applyAuthorReviewCounts(List.of(dto));
-        applyReviewLiked(List.of(dto), user);
-        applyAuthorFollowing(List.of(dto), user);
+        dto.setViews((int) ((review.getViews() == null ? 0 : review.getViews()) + reviewViewCounter.pending(review.getId())));
+        enrich(List.of(dto), user);
         return dto;
     }
 
     @Transactional
-    public ReviewDto create(String authorEmail, CreateReviewRequest request) {
-        User author = userRepository.findByEmail(authorEmail).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
+    public ReviewDto create(Long authorId, CreateReviewRequest request) {
+        User author = loadUser(authorId);
         VehicleBrand brand = vehicleBrandRepository.findById(request.getBrandId()).orElseThrow(() -> new ApiException(HttpStatus.BAD_REQUEST, "Brand not found"));
         Review review = new Review();
         review.setTitle(request.getTitle());
@@ -314,14 +395,13 @@ public class ReviewService {
         review.setViews(0);
         reviewRepository.save(review);
         ReviewDto dto = DtoMapper.toReviewDto(review);
-        applyAuthorReviewCounts(List.of(dto));
         return dto;
     }
 
     @Transactional
-    public ReviewDto updateOwn(Long id, String email, UpdateReviewRequest request) {
-        Review review = reviewRepository.findById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
-        if (!review.getAuthor().getEmail().equals(email)) {
+    public ReviewDto updateOwn(Long id, Long userId, UpdateReviewRequest request) {
+        Review review = reviewRepository.findDetailedById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
+        if (!isAuthor(review, userId)) {
             throw new ApiException(HttpStatus.FORBIDDEN, "Not owner");
         }
         if (review.getStatus() != ReviewStatus.PENDING) {
@@ -339,14 +419,13 @@ public class ReviewService {
         review.setUpdatedAt(Instant.now());
         reviewRepository.save(review);
         ReviewDto dto = DtoMapper.toReviewDto(review);
-        applyAuthorReviewCounts(List.of(dto));
         return dto;
     }
 
     @Transactional
-    public ReviewDto updateOwnBySlug(String slug, String email, UpdateReviewRequest request) {
+    public ReviewDto updateOwnBySlug(String slug, Long userId, UpdateReviewRequest request) {
         Review review = reviewRepository.findBySlug(slug).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
-        if (!review.getAuthor().getEmail().equals(email)) {
+        if (!isAuthor(review, userId)) {
             throw new ApiException(HttpStatus.FORBIDDEN, "Not owner");
         }
         if (review.getStatus() != ReviewStatus.PENDING) {
@@ -364,34 +443,37 @@ public class ReviewService {
         review.setUpdatedAt(Instant.now());
         reviewRepository.save(review);
         ReviewDto dto = DtoMapper.toReviewDto(review);
-        applyAuthorReviewCounts(List.of(dto));
         return dto;
     }
 
     @Transactional
-    public void approve(Long id, String approverEmail, boolean approve) {
-        setStatus(id, approverEmail, approve ? ReviewStatus.APPROVED : ReviewStatus.REJECTED);
+    public void approve(Long id, AuthenticatedUser approver, boolean approve) {
+        setStatus(id, approver, approve ? ReviewStatus.APPROVED : ReviewStatus.REJECTED);
     }
 
     @Transactional
-    public void hideOwn(Long id, String email) {
+    public void hideOwn(Long id, Long userId) {
         Review review = reviewRepository.findById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
-        if (!review.getAuthor().getEmail().equals(email)) {
+        if (!isAuthor(review, userId)) {
             throw new ApiException(HttpStatus.FORBIDDEN, "Not owner");
         }
         if (review.getStatus() == ReviewStatus.HIDDEN) {
             return;
         }
+        ReviewStatus previous = review.getStatus();
         review.setStatus(ReviewStatus.HIDDEN);
         review.setPublishedAt(null);
         review.setUpdatedAt(Instant.now());
         reviewRepository.save(review);
+        adjustAuthorReviewCount(review, previous, ReviewStatus.HIDDEN);
+        reviewTrendingEngine.remove(id);
+        reviewSearchIndexer.refresh(id);
     }
 
     @Transactional
-    public void unhideOwn(Long id, String email) {
+    public void unhideOwn(Long id, Long userId) {
         Review review = reviewRepository.findById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
-        if (!review.getAuthor().getEmail().equals(email)) {
+        if (!isAuthor(review, userId)) {
             throw new ApiException(HttpStatus.FORBIDDEN, "Not owner");
         }
         if (review.getStatus() != ReviewStatus.HIDDEN) {
@@ -401,38 +483,47 @@ public class ReviewService {
         review.setUpdatedAt(Instant.now());
         review.setPublishedAt(Instant.now());
         reviewRepository.save(review);
+        adjustAuthorReviewCount(review, ReviewStatus.HIDDEN, ReviewStatus.APPROVED);
+        restoreTrending(review);
+        reviewSearchIndexer.refresh(id);
     }
 
     @Transactional
-    public void deleteOwn(Long id, String email) {
+    public void deleteOwn(Long id, Long userId) {
         Review review = reviewRepository.findById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
-        if (!review.getAuthor().getEmail().equals(email)) {
+        if (!isAuthor(review, userId)) {
             throw new ApiException(HttpStatus.FORBIDDEN, "Not owner");
         }
         commentRepository.deleteByReview(review);
+        notificationService.forgetReview(review.getId());
         reviewRepository.delete(review);
+        adjustAuthorReviewCount(review, review.getStatus(), null);
+        reviewTrendingEngine.remove(id);
+        reviewSearchIndexer.refresh(id);
     }
 
     @Transactional
-    public void setStatus(Long id, String approverEmail, ReviewStatus status) {
+    public void setStatus(Long id, AuthenticatedUser approver, ReviewStatus status) {
         Review review = reviewRepository.findById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
-        User approver = userRepository.findByEmail(approverEmail).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
-        if (!hasAdminRole(approver)) {
-            throw new ApiException(HttpStatus.FORBIDDEN, "Not authorized");
-        }
+        requireAdmin(approver);
+        ReviewStatus previous = review.getStatus();
         review.setStatus(status);
         review.setPublishedAt(status == ReviewStatus.APPROVED ? Instant.now() : null);
         review.setUpdatedAt(Instant.now());
         reviewRepository.save(review);
+        adjustAuthorReviewCount(review, previous, status);
+        if (status != ReviewStatus.APPROVED) {
+            reviewTrendingEngine.remove(id);
+        } else if (previous != ReviewStatus.APPROVED) {
+            restoreTrending(review);
+        }
+        reviewSearchIndexer.refresh(id);
     }
 
     @Transactional
-    public void restoreRejected(Long id, String approverEmail) {
+    public void restoreRejected(Long id, AuthenticatedUser approver) {
         Review review = reviewRepository.findById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
-        User approver = userRepository.findByEmail(approverEmail).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
-        if (!hasAdminRole(approver)) {
-            throw new ApiException(HttpStatus.FORBIDDEN, "Not authorized");
-        }
+        requireAdmin(approver);
         if (review.getStatus() != ReviewStatus.REJECTED) {
             throw new ApiException(HttpStatus.BAD_REQUEST, "Chỉ khôi phục được bài bị từ chối");
         }
@@ -440,24 +531,22 @@ public class ReviewService {
         review.setPublishedAt(null);
         review.setUpdatedAt(Instant.now());
         reviewRepository.save(review);
+        adjustAuthorReviewCount(review, ReviewStatus.REJECTED, ReviewStatus.PENDING);
     }
 
     @Transactional(readOnly = true)
-    public Page<ReviewDto> listPending(int page, int size) {
-        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return reviewRepository.findByStatus(ReviewStatus.PENDING, pageable).map(DtoMapper::toReviewDto);
+    public Page<ReviewSummaryDto> listPending(int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size);
+        return reviewRepository.findSummariesByStatus(ReviewStatus.PENDING, pageable).map(DtoMapper::toReviewSummaryDto);
     }
 
     @Transactional
-    public CommentDto addComment(Long reviewId, String authorEmail, CreateCommentRequest request) {
+    public CommentDto addComment(Long reviewId, Long authorId, CreateCommentRequest request) {
         Review review = reviewRepository.findById(reviewId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
         if (review.getStatus() != ReviewStatus.APPROVED) {
             throw new ApiException(HttpStatus.BAD_REQUEST, "Cannot comment on unapproved review");
         }
-        User author = null;
-        if (authorEmail != null) {
-            author = userRepository.findByEmail(authorEmail).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
-        }
+        User author = authorId != null ? loadUser(authorId) : null;
         try {
             Comment comment = new Comment();
             comment.setContent(request.getContent());
@@ -471,13 +560,14 @@ public class ReviewService {
                     throw new ApiException(HttpStatus.BAD_REQUEST, "Parent comment không thuộc bài viết này");
                 }
                 comment.setParent(parent);
+                comment.setRootId(parent.getRootId() != null ? parent.getRootId() : parent.getId());
             }
             Comment saved = commentRepository.save(comment);
             review.setCommentsCount((review.getCommentsCount() == null ? 0 : review.getCommentsCount()) + 1);
             reviewRepository.save(review);
+            reviewTrendingEngine.recordComment(reviewId);
             notificationService.notifyNewComment(review, saved, author);
             CommentDto dto = DtoMapper.toCommentDto(saved);
-            applyCommentAuthorReviewCounts(List.of(dto));
             return dto;
         } catch (Exception ex) {
             throw new ApiException(HttpStatus.BAD_REQUEST, "Không thể lưu bình luận");
@@ -485,71 +575,37 @@ public class ReviewService {
     }
 
     @Transactional(readOnly = true)
-    public List<CommentDto> listComments(Long reviewId, int page, int size, String sort, String email) {
-        Review review = reviewRepository.findById(reviewId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
-        User user = findUser(email);
-        boolean isOwner = user != null && review.getAuthor() != null && email != null && email.equals(review.getAuthor().getEmail());
-        if (review.getStatus() != ReviewStatus.APPROVED && !isOwner) {
+    public List<CommentDto> listComments(Long reviewId, int page, int size, String sort, Long viewerId) {
+        Review review = reviewRepository.findDetailedById(reviewId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
+        User user = viewer(viewerId);
+        if (review.getStatus() != ReviewStatus.APPROVED && !isAuthor(review, viewerId)) {
             throw new ApiException(HttpStatus.BAD_REQUEST, "Comments unavailable for unapproved review");
         }
         PageRequest pageable = PageRequest.of(page, size);
         if (!"latest".equalsIgnoreCase(sort) && !"top".equalsIgnoreCase(sort)) {
             sort = "top";
         }
-        List<Comment> all = commentRepository.findByReviewOrderByCreatedAtAsc(review);
-        java.util.Map<Long, Comment> byId = all.stream()
-                .collect(java.util.stream.Collectors.toMap(Comment::getId, c -> c));
-        java.util.function.Function<Comment, Comment> rootOf = c -> {
-            Comment current = c;
-            java.util.Set<Long> seen = new java.util.HashSet<>();
-            while (current.getParent() != null && !seen.contains(current.getParent().getId())) {
-                seen.add(current.getParent().getId());
-                current = byId.getOrDefault(current.getParent().getId(), current.getParent());
-                if (current == null) {
-                    break;
-                }
-            }
-            return current == null ? c : current;
-        };
-        java.util.List<Comment> roots = all.stream().filter(c -> c.getParent() == null).toList();
-        java.util.Comparator<Comment> rootComparator = "latest".equalsIgnoreCase(sort)
-                ? java.util.Comparator.comparing(Comment::getCreatedAt, java.util.Comparator.nullsFirst(java.util.Comparator.naturalOrder())).reversed()
-                : java.util.Comparator.comparing(Comment::getLikes, java.util.Comparator.nullsFirst(java.util.Comparator.naturalOrder())).reversed()
-                        .thenComparing(java.util.Comparator.comparing(Comment::getCreatedAt, java.util.Comparator.nullsFirst(java.util.Comparator.naturalOrder())).reversed());
-        roots = roots.stream().sorted(rootComparator).toList();
-        int from = Math.toIntExact((long) page * size);
-        if (from >= roots.size()) {
-            return java.util.List.of();
-        }
-        int to = Math.min(roots.size(), from + size);
-        java.util.List<Comment> selectedRoots = roots.subList(from, to);
-        java.util.Set<Long> rootIds = selectedRoots.stream().map(Comment::getId).collect(java.util.stream.Collectors.toSet());
-        java.util.Map<Long, java.util.List<Comment>> byRoot = new java.util.HashMap<>();
-        all.forEach(c -> {
-            Comment root = rootOf.apply(c);
-            if (root != null && rootIds.contains(root.getId())) {
-                byRoot.computeIfAbsent(root.getId(), k -> new java.util.ArrayList<>()).add(c);
-            }
-        });
-        java.util.List<CommentDto> result = new java.util.ArrayList<>();
-        for (Comment root : selectedRoots) {
-            java.util.List<Comment> branch = byRoot.getOrDefault(root.getId(), java.util.List.of());
-            branch = branch.stream()
-                    .sorted(java.util.Comparator.comparing(Comment::getCreatedAt, java.util.Comparator.nullsFirst(java.util.Comparator.naturalOrder())))
-                    .toList();
-            java.util.List<Comment> ordered = new java.util.ArrayList<>();
-            ordered.add(root);
-            branch.stream().filter(c -> !c.getId().equals(root.getId())).forEach(ordered::add);
-            result.addAll(ordered.stream().map(DtoMapper::toCommentDto).toList());
-        }
-        applyCommentAuthorReviewCounts(result);
-        applyCommentLiked(result, findUser(email));
+        List<Comment> roots = "latest".equalsIgnoreCase(sort)
+                ? commentRepository.findByReviewAndParentIsNullOrderByCreatedAtDesc(review, pageable)
+                : commentRepository.findByReviewAndParentIsNullOrderByLikesDescCreatedAtDesc(review, pageable);
+        if (roots.isEmpty()) {
+            return List.of();
+        }
+        List<Long> rootIds = roots.stream().map(Comment::getId).toList();
+        Map<Long, List<Comment>> repliesByRoot = commentRepository.findByRootIdInOrderByCreatedAtAsc(rootIds).stream()
+                .collect(Collectors.groupingBy(Comment::getRootId));
+        List<CommentDto> result = new ArrayList<>();
+        for (Comment root : roots) {
+            result.add(DtoMapper.toCommentDto(root));
+            repliesByRoot.getOrDefault(root.getId(), List.of()).forEach(reply -> result.add(DtoMapper.toCommentDto(reply)));
+        }
+        applyCommentLiked(result, user);
         return result;
     }
 
     @Transactional
-    public void likeComment(Long commentId, String email) {
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new ApiException(HttpStatus.UNAUTHORIZED, "Bạn cần đăng nhập"));
+    public void likeComment(Long commentId, Long userId) {
+        User user = requireUser(userId);
         Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Comment not found"));
         if (commentLikeRepository.existsByCommentAndUser(comment, user)) {
             return;
@@ -564,8 +620,8 @@ public class ReviewService {
     }
 
     @Transactional
-    public void unlikeComment(Long commentId, String email) {
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new ApiException(HttpStatus.UNAUTHORIZED, "Bạn cần đăng nhập"));
+    public void unlikeComment(Long commentId, Long userId) {
+        User user = requireUser(userId);
         Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Comment not found"));
         CommentLike like = commentLikeRepository.findByCommentAndUser(comment, user).orElse(null);
         if (like == null) {
@@ -578,8 +634,8 @@ public class ReviewService {
     }
 
     @Transactional
-    public void likeReview(Long reviewId, String email) {
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new ApiException(HttpStatus.UNAUTHORIZED, "Bạn cần đăng nhập"));
+    public void likeReview(Long reviewId, Long userId) {
+        User user = requireUser(userId);
         Review review = reviewRepository.findByIdAndStatus(reviewId, ReviewStatus.APPROVED)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
         if (reviewLikeRepository.existsByReviewAndUser(review, user)) {
@@ -592,12 +648,13 @@ public class ReviewService {
         reviewLikeRepository.save(like);
         review.setLikes((review.getLikes() == null ? 0 : review.getLikes()) + 1);
         reviewRepository.save(review);
+        reviewTrendingEngine.recordLike(reviewId);
         notificationService.notifyReviewLike(review, user);
     }
 
     @Transactional
-    public void unlikeReview(Long reviewId, String email) {
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new ApiException(HttpStatus.UNAUTHORIZED, "Bạn cần đăng nhập"));
+    public void unlikeReview(Long reviewId, Long userId) {
+        User user = requireUser(userId);
         Review review = reviewRepository.findByIdAndStatus(reviewId, ReviewStatus.APPROVED)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Review not found"));
         ReviewLike like = reviewLikeRepository.findByReviewAndUser(review, user).orElse(null);
@@ -611,11 +668,12 @@ public class ReviewService {
     }
 
     @Transactional
-    public void deleteComment(Long commentId, String email) {
+    public void deleteComment(Long commentId, AuthenticatedUser actor) {
+        Long userId = actor != null ? actor.id() : null;
+        requireUser(userId);
         Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Comment not found"));
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
-        boolean canDelete = hasAdminRole(user) || (comment.getAuthor() != null && comment.getAuthor().getEmail().equals(email));
-        if (!canDelete) {
+        boolean isAuthor = comment.getAuthor() != null && userId.equals(comment.getAuthor().getId());
+        if (!isAuthor && !hasAdminRole(actor.roles())) {
             throw new ApiException(HttpStatus.FORBIDDEN, "Not authorized");
         }
         Review review = comment.getReview();
@@ -646,7 +704,21 @@ public class ReviewService {
         throw new ApiException(HttpStatus.BAD_REQUEST, "URL ảnh không hợp lệ");
     }
 
-    private boolean hasAdminRole(User user) {
-        return user.getRoles().contains(Roles.ADMIN) || user.getRoles().contains(Roles.MANAGER) || user.getRoles().contains(Roles.SYSTEM_ADMIN);
+    private void adjustAuthorReviewCount(Review review, ReviewStatus previous, ReviewStatus next) {
+        int delta = (next == ReviewStatus.APPROVED ? 1 : 0) - (previous == ReviewStatus.APPROVED ? 1 : 0);
+        if (delta != 0 && review.getAuthor() != null) {
+            userRepository.adjustReviewCount(review.getAuthor().getId(), delta);
+        }
+    }
+
+    private void restoreTrending(Review review) {
+        long views = (review.getViews() == null ? 0 : review.getViews()) + reviewViewCounter.pending(review.getId());
+        int likes = review.getLikes() == null ? 0 : review.getLikes();
+        int comments = review.getCommentsCount() == null ? 0 : review.getCommentsCount();
+        reviewTrendingEngine.restore(review.getId(), views, likes, comments, review.getPublishedAt());
+    }
+
+    private boolean hasAdminRole(Set<String> roles) {
+        return roles.contains(Roles.ADMIN) || roles.contains(Roles.MANAGER) || roles.contains(Roles.SYSTEM_ADMIN);
     }
 }
@@ -0,0 +1,267 @@
+package com.example.autoreview.publicsite.service;
+
+import com.example.autoreview.domain.VehicleBrand;
+import com.example.autoreview.repository.projection.ReviewSummary;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReviewSuggester {
+
+    public enum Kind {
+        BRAND,
+        MODEL,
+        TITLE,
+        AUTHOR
+    }
+
+    public record Suggestion(String key, Kind kind, String text, Long id, String slug, double weight) {
+
+        Suggestion withWeight(double weight) {
+            return new Suggestion(key, kind, text, id, slug, weight);
+        }
+    }
+
+    static final int TOP_K = 10;
+    private static final int MAX_KEY_LENGTH = 32;
+    private static final int MAX_WORD_STARTS = 8;
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingDouble(Suggestion::weight).reversed()
+            .thenComparing(Suggestion::text);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+    private Map<String, Suggestion> entries = new HashMap<>();
+    private Map<String, Double> baseWeights = new HashMap<>();
+    private Map<String, Integer> counts = new HashMap<>();
+    private Map<Long, List<Suggestion>> contributions = new HashMap<>();
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = truncate(SearchTokenizer.normalize(prefix));
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return List.copyOf(node.top.subList(0, Math.min(limit, node.top.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<VehicleBrand> brands, Collection<ReviewSummary> approved) {
+        ReviewSuggester fresh = new ReviewSuggester();
+        for (VehicleBrand brand : brands) {
+            Suggestion suggestion = brandSuggestion(brand.getName(), brand.getId(), 0);
+            if (suggestion != null) {
+                fresh.baseWeights.put(suggestion.key(), 1.0);
+                fresh.put(suggestion.withWeight(1.0));
+            }
+        }
+        approved.forEach(fresh::addReview);
+        lock.writeLock().lock();
+        try {
+            root = fresh.root;
+            entries = fresh.entries;
+            baseWeights = fresh.baseWeights;
+            counts = fresh.counts;
+            contributions = fresh.contributions;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void add(ReviewSummary summary) {
+        lock.writeLock().lock();
+        try {
+            removeReview(summary.getId());
+            addReview(summary);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long reviewId) {
+        lock.writeLock().lock();
+        try {
+            removeReview(reviewId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addReview(ReviewSummary summary) {
+        List<Suggestion> contributed = new ArrayList<>();
+        double popularity = ReviewTrendingEngine.VIEW_WEIGHT * intValue(summary.getViews())
+                + ReviewTrendingEngine.LIKE_WEIGHT * intValue(summary.getLikes())
+                + ReviewTrendingEngine.COMMENT_WEIGHT * intValue(summary.getCommentsCount());
+        contributed.add(suggestion("TITLE:" + summary.getId(), Kind.TITLE, summary.getTitle(), summary.getId(), summary.getSlug(), 1 + popularity));
+        contributed.add(brandSuggestion(summary.getBrandName(), null, 0));
+        String model = summary.getVehicleModel();
+        if (model != null && !model.isBlank()) {
+            String text = summary.getBrandName() != null && !SearchTokenizer.normalize(model).startsWith(SearchTokenizer.normalize(summary.getBrandName()))
+                    ? summary.getBrandName() + " " + model.trim()
+                    : model.trim();
+            contributed.add(suggestion("MODEL:" + SearchTokenizer.normalize(text), Kind.MODEL, text, null, null, 0));
+        }
+        if (summary.getAuthorId() != null) {
+            contributed.add(suggestion("AUTHOR:" + summary.getAuthorId(), Kind.AUTHOR, summary.getAuthorUsername(), summary.getAuthorId(), null, 0));
+        }
+        contributed.removeIf(suggestion -> suggestion == null);
+        for (Suggestion suggestion : contributed) {
+            if (suggestion.kind() == Kind.TITLE) {
+                put(suggestion);
+                continue;
+            }
+            int count = counts.merge(suggestion.key(), 1, Integer::sum);
+            put(entries.getOrDefault(suggestion.key(), suggestion).withWeight(baseWeights.getOrDefault(suggestion.key(), 0.0) + count));
+        }
+        contributions.put(summary.getId(), contributed);
+    }
+
+    private void removeReview(Long reviewId) {
+        List<Suggestion> contributed = contributions.remove(reviewId);
+        if (contributed == null) {
+            return;
+        }
+        for (Suggestion suggestion : contributed) {
+            if (suggestion.kind() == Kind.TITLE) {
+                delete(suggestion.key());
+                continue;
+            }
+            int count = counts.merge(suggestion.key(), -1, Integer::sum);
+            double weight = baseWeights.getOrDefault(suggestion.key(), 0.0) + count;
+            if (count <= 0) {
+                counts.remove(suggestion.key());
+            }
+            if (weight <= 0) {
+                delete(suggestion.key());
+            } else {
+                put(entries.getOrDefault(suggestion.key(), suggestion).withWeight(weight));
+            }
+        }
+    }
+
+    private void put(Suggestion suggestion) {
+        Suggestion previous = entries.put(suggestion.key(), suggestion);
+        Set<String> previousKeys = previous != null ? keys(previous.text()) : Set.of();
+        Set<String> keys = keys(suggestion.text());
+        for (String key : previousKeys) {
+            if (!keys.contains(key)) {
+                update(key, suggestion.key(), null);
+            }
+        }
+        for (String key : keys) {
+            update(key, suggestion.key(), suggestion);
+        }
+    }
+
+    private void delete(String entryKey) {
+        Suggestion previous = entries.remove(entryKey);
+        if (previous != null) {
+            keys(previous.text()).forEach(key -> update(key, entryKey, null));
+        }
+    }
+
+    private void update(String key, String entryKey, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            Node child = node.children.get(c);
+            if (child == null) {
+                if (suggestion == null) {
+                    return;
+                }
+                child = new Node();
+                node.children.put(c, child);
+            }
+            node = child;
+            path.add(node);
+        }
+        if (suggestion == null) {
+            node.terminals.remove(entryKey);
+        } else {
+            node.terminals.put(entryKey, suggestion);
+        }
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            Node current = path.get(depth);
+            if (depth > 0 && current.terminals.isEmpty() && current.children.isEmpty()) {
+                path.get(depth - 1).children.remove(key.charAt(depth - 1));
+                continue;
+            }
+            current.refresh();
+        }
+    }
+
+    private static Set<String> keys(String text) {
+        String normalized = SearchTokenizer.normalize(text);
+        Set<String> keys = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        int start = 0;
+        while (start >= 0 && keys.size() < MAX_WORD_STARTS) {
+            keys.add(truncate(normalized.substring(start)));
+            int space = normalized.indexOf(' ', start);
+            start = space < 0 ? -1 : space + 1;
+        }
+        return keys;
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private static Suggestion brandSuggestion(String name, Long id, double weight) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return suggestion("BRAND:" + SearchTokenizer.normalize(name), Kind.BRAND, name.trim(), id, null, weight);
+    }
+
+    private static Suggestion suggestion(String key, Kind kind, String text, Long id, String slug, double weight) {
+        if (text == null || SearchTokenizer.normalize(text).isEmpty()) {
+            return null;
+        }
+        return new Suggestion(key, kind, text, id, slug, weight);
+    }
+
+    private static int intValue(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Map<String, Suggestion> terminals = new HashMap<>();
+        private List<Suggestion> top = List.of();
+
+        private void refresh() {
+            Map<String, Suggestion> best = new LinkedHashMap<>(terminals);
+            for (Node child : children.values()) {
+                for (Suggestion suggestion : child.top) {
+                    best.putIfAbsent(suggestion.key(), suggestion);
+                }
+            }
+            top = best.values().stream().sorted(RANKING).limit(TOP_K).toList();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.autoreview.publicsite.service;
+
+import com.example.autoreview.exception.ApiException;
+import com.example.autoreview.repository.ReviewRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReviewTrendingEngine {
+
+    static final double VIEW_WEIGHT = 1;
+    static final double LIKE_WEIGHT = 4;
+    static final double COMMENT_WEIGHT = 6;
+
+    public enum Window {
+        DAY(Duration.ofDays(1)),
+        WEEK(Duration.ofDays(7)),
+        ALL_TIME(null);
+
+        private final Duration decay;
+
+        Window(Duration decay) {
+            this.decay = decay;
+        }
+
+        public static Window fromParam(String value) {
+            if (value == null || value.isBlank()) {
+                return ALL_TIME;
+            }
+            return switch (value.trim().toLowerCase()) {
+                case "day" -> DAY;
+                case "week" -> WEEK;
+                case "all", "all-time" -> ALL_TIME;
+                default -> throw new ApiException(HttpStatus.BAD_REQUEST, "Invalid trending window");
+            };
+        }
+    }
+
+    private final Map<Window, DecayedTopK> windows = new EnumMap<>(Window.class);
+    private final DecayedTopK views;
+    private final ReviewRepository reviewRepository;
+
+    public ReviewTrendingEngine(ReviewRepository reviewRepository, @Value("${app.trending.capacity:500}") int capacity) {
+        this.reviewRepository = reviewRepository;
+        Instant now = Instant.now();
+        for (Window window : Window.values()) {
+            windows.put(window, new DecayedTopK(window.decay, capacity, now));
+        }
+        views = new DecayedTopK(null, capacity, now);
+    }
+
+    public void recordView(Long reviewId) {
+        Instant now = Instant.now();
+        record(reviewId, VIEW_WEIGHT, now);
+        if (reviewId != null) {
+            views.add(reviewId, 1, now);
+        }
+    }
+
+    public void recordLike(Long reviewId) {
+        record(reviewId, LIKE_WEIGHT, Instant.now());
+    }
+
+    public void recordComment(Long reviewId) {
+        record(reviewId, COMMENT_WEIGHT, Instant.now());
+    }
+
+    public void remove(Long reviewId) {
+        if (reviewId == null) {
+            return;
+        }
+        windows.values().forEach(topK -> topK.remove(reviewId));
+        views.remove(reviewId);
+    }
+
+    public void restore(Long reviewId, long viewCount, int likes, int comments, Instant publishedAt) {
+        if (reviewId == null) {
+            return;
+        }
+        remove(reviewId);
+        seed(reviewId, viewCount, likes, comments, publishedAt);
+    }
+
+    public List<Long> top(Window window, int limit) {
+        return windows.get(window).top(Math.max(0, limit));
+    }
+
+    public List<Long> mostViewed(int limit) {
+        return views.top(Math.max(0, limit));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        windows.values().forEach(DecayedTopK::clear);
+        views.clear();
+        for (Object[] row : reviewRepository.findTrendingSeeds()) {
+            Instant at = row[4] != null ? (Instant) row[4] : (Instant) row[5];
+            seed((Long) row[0], intValue(row[1]), intValue(row[2]), intValue(row[3]), at);
+        }
+    }
+
+    private void seed(Long reviewId, long viewCount, int likes, int comments, Instant at) {
+        Instant seededAt = at != null ? at : Instant.now();
+        record(reviewId, VIEW_WEIGHT * viewCount + LIKE_WEIGHT * likes + COMMENT_WEIGHT * comments, seededAt);
+        if (viewCount > 0) {
+            views.add(reviewId, viewCount, seededAt);
+        }
+    }
+
+    private void record(Long reviewId, double weight, Instant at) {
+        if (reviewId == null || weight <= 0) {
+            return;
+        }
+        windows.values().forEach(topK -> topK.add(reviewId, weight, at));
+    }
+
+    private static int intValue(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    static final class DecayedTopK {
+
+        private static final double REBASE_THRESHOLD = 30;
+
+        private final Duration decay;
+        private final int capacity;
+        private final Map<Long, Double> scores = new HashMap<>();
+        private Instant epoch;
+
+        DecayedTopK(Duration decay, int capacity, Instant epoch) {
+            this.decay = decay;
+            this.capacity = capacity;
+            this.epoch = epoch;
+        }
+
+        synchronized void add(Long id, double weight, Instant at) {
+            if (decay != null && exponent(at) > REBASE_THRESHOLD) {
+                rebase(at);
+            }
+            scores.merge(id, weight * growth(at), Double::sum);
+            if (scores.size() > capacity * 2) {
+                prune();
+            }
+        }
+
+        synchronized void remove(Long id) {
+            scores.remove(id);
+        }
+
+        synchronized void clear() {
+            scores.clear();
+        }
+
+        synchronized List<Long> top(int limit) {
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        private double exponent(Instant at) {
+            return (double) Duration.between(epoch, at).toMillis() / decay.toMillis();
+        }
+
+        private double growth(Instant at) {
+            return decay == null ? 1 : Math.exp(exponent(at));
+        }
+
+        private void rebase(Instant at) {
+            double factor = Math.exp(-exponent(at));
+            scores.replaceAll((id, score) -> score * factor);
+            epoch = at;
+        }
+
+        private void prune() {
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.comparingByValue(Comparator.reverseOrder()));
+            ranked.subList(capacity, ranked.size()).forEach(entry -> scores.remove(entry.getKey()));
+        }
+    }
+}
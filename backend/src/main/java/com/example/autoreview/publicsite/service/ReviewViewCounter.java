@@ -0,0 +1,101 @@
+package com.example.autoreview.publicsite.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReviewViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewViewCounter.class);
+
+    private static final String FLUSH_SQL = "UPDATE reviews SET views = COALESCE(views, 0) + ? WHERE id = ?";
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final AtomicLong buffered = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxBuffered;
+
+    public ReviewViewCounter(JdbcTemplate jdbcTemplate, @Value("${app.views.max-buffered:10000}") long maxBuffered) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxBuffered = maxBuffered;
+    }
+
+    public void increment(Long reviewId) {
+        if (reviewId == null) {
+            return;
+        }
+        add(reviewId, 1);
+        if (buffered.incrementAndGet() >= maxBuffered && flushLock.tryLock()) {
+            try {
+                flushLocked();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    public long pending(Long reviewId) {
+        LongAdder adder = reviewId != null ? pending.get(reviewId) : null;
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushLocked() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, entry.getKey()});
+            } else {
+                pending.compute(entry.getKey(), (id, adder) -> adder == null || adder.sum() == 0 ? null : adder);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        long flushed = batch.stream().mapToLong(row -> (Long) row[0]).sum();
+        buffered.addAndGet(-flushed);
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to flush {} buffered review views, keeping them for the next run", flushed, ex);
+            batch.forEach(row -> add((Long) row[1], (Long) row[0]));
+            buffered.addAndGet(flushed);
+        }
+    }
+
+    private void add(Long reviewId, long delta) {
+        pending.compute(reviewId, (id, adder) -> {
+            LongAdder target = adder != null ? adder : new LongAdder();
+            target.add(delta);
+            return target;
+        });
+    }
+}
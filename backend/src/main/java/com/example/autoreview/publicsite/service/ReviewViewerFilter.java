@@ -0,0 +1,182 @@
+package com.example.autoreview.publicsite.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReviewViewerFilter {
+
+    private final ConcurrentHashMap<Long, RotatingBloomFilter> filters = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final int maxTrackedReviews;
+    private final int expectedViewers;
+    private final double falsePositiveRate;
+
+    public ReviewViewerFilter(
+            @Value("${app.views.unique-window-minutes:30}") long windowMinutes,
+            @Value("${app.views.max-tracked-reviews:5000}") int maxTrackedReviews,
+            @Value("${app.views.expected-viewers:1000}") int expectedViewers,
+            @Value("${app.views.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.windowMillis = Duration.ofMinutes(windowMinutes).toMillis();
+        this.maxTrackedReviews = maxTrackedReviews;
+        this.expectedViewers = expectedViewers;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public boolean firstView(Long reviewId, String viewerKey) {
+        if (reviewId == null || viewerKey == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        RotatingBloomFilter filter = filters.computeIfAbsent(reviewId, id -> new RotatingBloomFilter(now, expectedViewers, falsePositiveRate));
+        return filter.add(viewerKey, now, windowMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.viewer-sweep-interval-ms:60000}")
+    public void evictCold() {
+        long now = System.currentTimeMillis();
+        filters.entrySet().removeIf(entry -> now - entry.getValue().lastSeen() > 2 * windowMillis);
+        int overflow = filters.size() - maxTrackedReviews;
+        if (overflow <= 0) {
+            return;
+        }
+        filters.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastSeen()))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(filters::remove);
+    }
+
+    static final class RotatingBloomFilter {
+
+        private final int initialCapacity;
+        private final double falsePositiveRate;
+        private ScalableBloomFilter current;
+        private ScalableBloomFilter previous;
+        private long generationStart;
+        private volatile long lastSeen;
+
+        RotatingBloomFilter(long now, int initialCapacity, double falsePositiveRate) {
+            this.initialCapacity = initialCapacity;
+            this.falsePositiveRate = falsePositiveRate;
+            this.current = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+            this.previous = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+            this.generationStart = now;
+            this.lastSeen = now;
+        }
+
+        long lastSeen() {
+            return lastSeen;
+        }
+
+        synchronized boolean add(String key, long now, long windowMillis) {
+            lastSeen = now;
+            if (now - generationStart >= 2 * windowMillis) {
+                current = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+                previous = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+                generationStart = now;
+            } else if (now - generationStart >= windowMillis) {
+                previous = current;
+                current = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+                generationStart = now;
+            }
+            long hash = fnv1a64(key);
+            if (current.contains(hash)) {
+                return false;
+            }
+            current.add(hash);
+            return !previous.contains(hash);
+        }
+
+        private static long fnv1a64(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+
+    static final class ScalableBloomFilter {
+
+        private static final double TIGHTENING = 0.5;
+
+        private final List<Stage> stages = new ArrayList<>();
+        private final double falsePositiveRate;
+
+        ScalableBloomFilter(int initialCapacity, double falsePositiveRate) {
+            this.falsePositiveRate = falsePositiveRate;
+            stages.add(new Stage(initialCapacity, falsePositiveRate * (1 - TIGHTENING)));
+        }
+
+        boolean contains(long hash) {
+            for (Stage stage : stages) {
+                if (stage.contains(hash)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void add(long hash) {
+            Stage last = stages.get(stages.size() - 1);
+            if (last.size >= last.capacity) {
+                last = new Stage(last.capacity * 2, falsePositiveRate * (1 - TIGHTENING) * Math.pow(TIGHTENING, stages.size()));
+                stages.add(last);
+            }
+            last.add(hash);
+        }
+    }
+
+    private static final class Stage {
+
+        private final long[] words;
+        private final int bits;
+        private final int hashes;
+        private final int capacity;
+        private int size;
+
+        private Stage(int capacity, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            this.capacity = capacity;
+            this.bits = Math.max(64, (int) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2)));
+            this.hashes = Math.max(1, (int) Math.round((double) bits / capacity * ln2));
+            this.words = new long[(bits + 63) >>> 6];
+        }
+
+        private boolean contains(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashes; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bits);
+                if ((words[bit >>> 6] & (1L << (bit & 63))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void add(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashes; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bits);
+                words[bit >>> 6] |= 1L << (bit & 63);
+            }
+            size++;
+        }
+    }
+}
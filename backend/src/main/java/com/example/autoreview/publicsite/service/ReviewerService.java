@@ -3,7 +3,6 @@ package com.example.autoreview.publicsite.service;
 import com.example.autoreview.publicsite.dto.response.ReviewerDto;
 import com.example.autoreview.exception.ApiException;
 import com.example.autoreview.mapper.DtoMapper;
-import com.example.autoreview.repository.ReviewRepository;
 import com.example.autoreview.repository.UserFollowRepository;
 import com.example.autoreview.repository.UserRepository;
 import com.example.autoreview.publicsite.service.NotificationService;
@@ -11,7 +10,6 @@ import com.example.autoreview.domain.User;
 import com.example.autoreview.domain.UserFollow;
 import java.time.Instant;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
@@ -23,48 +21,43 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReviewerService {
 
     private final UserRepository userRepository;
-    private final ReviewRepository reviewRepository;
     private final UserFollowRepository userFollowRepository;
     private final NotificationService notificationService;
 
-    public ReviewerService(UserRepository userRepository, ReviewRepository reviewRepository, UserFollowRepository userFollowRepository, NotificationService notificationService) {
+    public ReviewerService(UserRepository userRepository, UserFollowRepository userFollowRepository, NotificationService notificationService) {
         this.userRepository = userRepository;
-        this.reviewRepository = reviewRepository;
         this.userFollowRepository = userFollowRepository;
         this.notificationService = notificationService;
     }
 
-    public List<ReviewerDto> topReviewers(int limit, String email) {
+    public List<ReviewerDto> topReviewers(int limit, Long viewerId) {
         List<ReviewerDto> dtos = userRepository.findTopReviewers(PageRequest.of(0, limit)).stream()
                 .map(DtoMapper::toReviewerDto)
                 .toList();
-        applyReviewCounts(dtos);
-        applyFollowing(dtos, findUser(email));
+        applyFollowing(dtos, viewer(viewerId));
         return dtos;
     }
 
-    public ReviewerDto getById(Long id, String email) {
+    public ReviewerDto getById(Long id, Long viewerId) {
         ReviewerDto dto = userRepository.findById(id)
                 .map(DtoMapper::toReviewerDto)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
-        applyReviewCounts(List.of(dto));
-        applyFollowing(List.of(dto), findUser(email));
+        applyFollowing(List.of(dto), viewer(viewerId));
         return dto;
     }
 
-    public ReviewerDto getByUsername(String username, String email) {
+    public ReviewerDto getByUsername(String username, Long viewerId) {
         ReviewerDto dto = userRepository.findByUsername(username)
                 .map(DtoMapper::toReviewerDto)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
-        applyReviewCounts(List.of(dto));
-        applyFollowing(List.of(dto), findUser(email));
+        applyFollowing(List.of(dto), viewer(viewerId));
         return dto;
     }
 
     @Transactional
-    public void follow(Long targetId, String actorEmail) {
-        User actor = findRequiredUser(actorEmail);
-        if (actor.getId().equals(targetId)) {
+    public void follow(Long targetId, Long actorId) {
+        User actor = requireActor(actorId);
+        if (actorId.equals(targetId)) {
             throw new ApiException(HttpStatus.BAD_REQUEST, "Không thể tự theo dõi chính mình");
         }
         User target = userRepository.findById(targetId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
@@ -82,8 +75,8 @@ public class ReviewerService {
     }
 
     @Transactional
-    public void unfollow(Long targetId, String actorEmail) {
-        User actor = findRequiredUser(actorEmail);
+    public void unfollow(Long targetId, Long actorId) {
+        User actor = requireActor(actorId);
         User target = userRepository.findById(targetId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
         UserFollow follow = userFollowRepository.findByFollowerAndFollowing(actor, target).orElse(null);
         if (follow == null) {
@@ -95,16 +88,6 @@ public class ReviewerService {
         userRepository.save(target);
     }
 
-    private void applyReviewCounts(List<ReviewerDto> dtos) {
-        Set<Long> userIds = dtos.stream().map(ReviewerDto::getId).collect(Collectors.toSet());
-        if (userIds.isEmpty()) {
-            return;
-        }
-        Map<Long, Long> counts = reviewRepository.countApprovedByAuthorIds(userIds).stream()
-                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
-        dtos.forEach(dto -> dto.setReviewCount(counts.getOrDefault(dto.getId(), 0L).intValue()));
-    }
-
     private void applyFollowing(List<ReviewerDto> dtos, User viewer) {
         if (viewer == null) {
             return;
@@ -117,17 +100,14 @@ public class ReviewerService {
         dtos.forEach(dto -> dto.setFollowing(followingIds.contains(dto.getId())));
     }
 
-    private User findUser(String email) {
-        if (email == null || email.isBlank()) {
-            return null;
-        }
-        return userRepository.findByEmail(email).orElse(null);
+    private User viewer(Long viewerId) {
+        return viewerId != null ? userRepository.getReferenceById(viewerId) : null;
     }
 
-    private User findRequiredUser(String email) {
-        if (email == null || email.isBlank()) {
+    private User requireActor(Long actorId) {
+        if (actorId == null || !userRepository.existsById(actorId)) {
             throw new ApiException(HttpStatus.UNAUTHORIZED, "Bạn cần đăng nhập");
         }
-        return userRepository.findByEmail(email).orElseThrow(() -> new ApiException(HttpStatus.UNAUTHORIZED, "Bạn cần đăng nhập"));
+        return userRepository.getReferenceById(actorId);
     }
 }
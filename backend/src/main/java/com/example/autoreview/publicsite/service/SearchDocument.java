@@ -0,0 +1,29 @@
+package com.example.autoreview.publicsite.service;
+
+import com.example.autoreview.repository.projection.ReviewSummary;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+public record SearchDocument(Long id, Instant createdAt, Map<SearchField, String> fields) {
+
+    public static SearchDocument from(ReviewSummary summary) {
+        Map<SearchField, String> fields = new EnumMap<>(SearchField.class);
+        put(fields, SearchField.TITLE, summary.getTitle());
+        put(fields, SearchField.BRAND, summary.getBrandName());
+        put(fields, SearchField.AUTHOR, summary.getAuthorUsername());
+        put(fields, SearchField.EXCERPT, summary.getExcerpt());
+        put(fields, SearchField.MODEL, summary.getVehicleModel());
+        put(fields, SearchField.PRICE_SEGMENT, summary.getPriceSegment());
+        put(fields, SearchField.FUEL, summary.getFuelType());
+        put(fields, SearchField.YEAR, summary.getVehicleYear() != null ? String.valueOf(summary.getVehicleYear()) : null);
+        return new SearchDocument(summary.getId(), summary.getCreatedAt(), Collections.unmodifiableMap(fields));
+    }
+
+    private static void put(Map<SearchField, String> fields, SearchField field, String value) {
+        if (value != null && !value.isBlank()) {
+            fields.put(field, value);
+        }
+    }
+}
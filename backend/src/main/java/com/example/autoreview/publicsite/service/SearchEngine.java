@@ -0,0 +1,45 @@
+package com.example.autoreview.publicsite.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface SearchEngine {
+
+    Hits search(String query, int offset, int limit);
+
+    Map<Facet, Map<String, Long>> facets(String query, Map<Facet, String> filters);
+
+    boolean contains(Long id);
+
+    void index(SearchDocument document);
+
+    void remove(Long id);
+
+    void rebuild(Collection<SearchDocument> documents);
+
+    record Hits(List<Long> ids, long total) {
+    }
+
+    enum Facet {
+        BRAND("brand", SearchField.BRAND),
+        FUEL_TYPE("fuelType", SearchField.FUEL),
+        PRICE_SEGMENT("priceSegment", SearchField.PRICE_SEGMENT);
+
+        private final String param;
+        private final SearchField field;
+
+        Facet(String param, SearchField field) {
+            this.param = param;
+            this.field = field;
+        }
+
+        public String param() {
+            return param;
+        }
+
+        public SearchField field() {
+            return field;
+        }
+    }
+}
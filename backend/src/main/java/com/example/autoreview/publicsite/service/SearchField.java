@@ -0,0 +1,26 @@
+package com.example.autoreview.publicsite.service;
+
+public enum SearchField {
+    TITLE(6),
+    BRAND(5),
+    AUTHOR(5),
+    EXCERPT(4),
+    MODEL(3),
+    PRICE_SEGMENT(2),
+    FUEL(2),
+    YEAR(1);
+
+    private final int weight;
+
+    SearchField(int weight) {
+        this.weight = weight;
+    }
+
+    public int weight() {
+        return weight;
+    }
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.autoreview.publicsite.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SearchResultCache {
+
+    public record Page(List<Long> ids, long total, String didYouMean, Map<String, Map<String, Long>> facets) {
+    }
+
+    private record Entry(long version, Page page) {
+    }
+
+    private final Map<String, Entry> entries;
+    private final AtomicLong version = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public SearchResultCache(MeterRegistry meterRegistry, @Value("${app.search.cache.max-entries:1000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.hits = Counter.builder("search.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("search.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    public static String key(String query, int page, int size, boolean facets) {
+        return SearchTokenizer.normalize(query) + "|" + page + "|" + size + "|" + facets;
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public Page get(String key) {
+        long current = version.get();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version() == current) {
+                hits.increment();
+                return entry.page();
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(String key, long computedAt, Page page) {
+        if (computedAt != version.get()) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry(computedAt, page));
+        }
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+}
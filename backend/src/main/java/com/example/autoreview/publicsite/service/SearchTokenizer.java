@@ -0,0 +1,56 @@
+package com.example.autoreview.publicsite.service;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+final class SearchTokenizer {
+
+    static final int MAX_GRAM = 20;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTokenizer() {
+    }
+
+    static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("")
+                .replace('đ', 'd')
+                .replace('Đ', 'D')
+                .toLowerCase(Locale.ROOT);
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return SEPARATORS.matcher(fold(text)).replaceAll(" ").trim();
+    }
+
+    static Set<String> tokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token.length() > MAX_GRAM ? token.substring(0, MAX_GRAM) : token);
+            }
+        }
+        return tokens;
+    }
+
+    static Set<String> edgeGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokens(text)) {
+            for (int length = 1; length <= token.length(); length++) {
+                grams.add(token.substring(0, length));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.autoreview.publicsite.service;
+
+import com.example.autoreview.repository.NotificationRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UnreadNotificationCounter {
+
+    private final NotificationRepository notificationRepository;
+    private final Map<Long, Entry> counts;
+    private final long ttlMillis;
+
+    public UnreadNotificationCounter(
+            NotificationRepository notificationRepository,
+            @Value("${app.notifications.unread-cache.max-entries:10000}") int maxEntries,
+            @Value("${app.notifications.unread-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.notificationRepository = notificationRepository;
+        this.counts = lru(maxEntries);
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public long unread(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry loading = null;
+        synchronized (counts) {
+            Entry entry = counts.get(userId);
+            if (entry != null && !entry.loading && now - entry.loadedAt < ttlMillis) {
+                return entry.count;
+            }
+            if (entry == null || !entry.loading) {
+                loading = Entry.loading(now);
+                counts.put(userId, loading);
+            }
+        }
+        long loaded;
+        try {
+            loaded = notificationRepository.countByRecipientIdAndReadFlagFalse(userId);
+        } catch (RuntimeException ex) {
+            if (loading != null) {
+                synchronized (counts) {
+                    counts.remove(userId, loading);
+                }
+            }
+            throw ex;
+        }
+        if (loading != null) {
+            synchronized (counts) {
+                if (counts.get(userId) == loading) {
+                    if (loading.stale) {
+                        counts.remove(userId);
+                    } else {
+                        counts.put(userId, new Entry(loaded, now));
+                    }
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public void added(Long userId, long delta) {
+        synchronized (counts) {
+            Entry entry = counts.get(userId);
+            if (entry != null && entry.loading) {
+                entry.stale = true;
+            } else if (entry != null) {
+                entry.count += delta;
+            }
+        }
+    }
+
+    public void read(Long userId) {
+        read(userId, 1);
+    }
+
+    public void read(Long userId, long marked) {
+        synchronized (counts) {
+            Entry entry = counts.get(userId);
+            if (entry != null && entry.loading) {
+                entry.stale = true;
+            } else if (entry != null) {
+                entry.count = Math.max(0, entry.count - marked);
+            }
+        }
+    }
+
+    public void cleared(Long userId) {
+        synchronized (counts) {
+            counts.put(userId, new Entry(0, System.currentTimeMillis()));
+        }
+    }
+
+    private static <K, V> Map<K, V> lru(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    private static final class Entry {
+
+        private long count;
+        private final long loadedAt;
+        private final boolean loading;
+        private boolean stale;
+
+        private Entry(long count, long loadedAt) {
+            this(count, loadedAt, false);
+        }
+
+        private Entry(long count, long loadedAt, boolean loading) {
+            this.count = count;
+            this.loadedAt = loadedAt;
+            this.loading = loading;
+        }
+
+        private static Entry loading(long now) {
+            return new Entry(0, now, true);
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package com.example.autoreview.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.example.autoreview.domain.Comment;
 import com.example.autoreview.domain.Review;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,9 +14,14 @@ import org.springframework.stereotype.Repository;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByReviewOrderByCreatedAtAsc(Review review);
 
-    Page<Comment> findByReviewAndParentIsNullOrderByLikesDescCreatedAtDesc(Review review, Pageable pageable);
+    @EntityGraph(attributePaths = "author")
+    List<Comment> findByReviewAndParentIsNullOrderByLikesDescCreatedAtDesc(Review review, Pageable pageable);
 
-    Page<Comment> findByReviewAndParentIsNullOrderByCreatedAtDesc(Review review, Pageable pageable);
+    @EntityGraph(attributePaths = "author")
+    List<Comment> findByReviewAndParentIsNullOrderByCreatedAtDesc(Review review, Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    List<Comment> findByRootIdInOrderByCreatedAtAsc(Collection<Long> rootIds);
 
     List<Comment> findByParentInOrderByCreatedAtAsc(List<Comment> parents);
 
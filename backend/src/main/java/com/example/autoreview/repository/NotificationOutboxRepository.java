@@ -0,0 +1,35 @@
+package com.example.autoreview.repository;
+
+import com.example.autoreview.domain.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from NotificationOutbox o where o.deadLetter = false "
+            + "and (o.nextAttemptAt is null or o.nextAttemptAt <= :now) "
+            + "and (o.claimedUntil is null or o.claimedUntil < :now) "
+            + "and not exists (select p.id from NotificationOutbox p where p.orderingKey = o.orderingKey and p.id < o.id and p.deadLetter = false "
+            + "and (p.nextAttemptAt > :now or p.claimedUntil >= :now)) "
+            + "order by o.id")
+    List<NotificationOutbox> findClaimable(@Param("now") Instant now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from NotificationOutbox o where o.id = :id and o.claimedBy = :owner")
+    int deleteClaimed(@Param("id") Long id, @Param("owner") String owner);
+
+    long countByDeadLetterFalse();
+
+    @Query("select min(o.createdAt) from NotificationOutbox o where o.deadLetter = false")
+    Instant findOldestPendingCreatedAt();
+}
@@ -1,17 +1,40 @@
 package com.example.autoreview.repository;
 
 import com.example.autoreview.domain.Notification;
-import com.example.autoreview.domain.User;
+import java.time.Instant;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    List<Notification> findByRecipientOrderByCreatedAtDesc(User recipient, Pageable pageable);
+    @EntityGraph(attributePaths = {"actor", "review"})
+    @Query("select n from Notification n where n.recipient.id = :recipientId order by n.createdAt desc, n.id desc")
+    List<Notification> findFirstPageByRecipientId(@Param("recipientId") Long recipientId, Pageable pageable);
 
-    List<Notification> findByRecipientAndReadFlagFalse(User recipient);
+    @EntityGraph(attributePaths = {"actor", "review"})
+    @Query("select n from Notification n where n.recipient.id = :recipientId and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id)) order by n.createdAt desc, n.id desc")
+    List<Notification> findPageByRecipientIdBefore(@Param("recipientId") Long recipientId, @Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
 
-    long countByRecipientAndReadFlagFalse(User recipient);
+    @Modifying(clearAutomatically = true)
+    @Query("update Notification n set n.readFlag = true where n.recipient.id = :recipientId and n.readFlag = false")
+    int markAllRead(@Param("recipientId") Long recipientId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Notification n set n.readFlag = true where n.recipient.id = :recipientId and n.readFlag = false and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id <= :id))")
+    int markReadUpTo(@Param("recipientId") Long recipientId, @Param("createdAt") Instant createdAt, @Param("id") Long id);
+
+    long countByRecipientIdAndReadFlagFalse(Long recipientId);
+
+    @EntityGraph(attributePaths = {"actor", "review"})
+    @Query("select n from Notification n where n.recipient.id = :recipientId and (n.updatedAt > :updatedAt or (n.updatedAt = :updatedAt and n.id > :id)) order by n.updatedAt asc, n.id asc")
+    List<Notification> findByRecipientIdUpdatedAfter(@Param("recipientId") Long recipientId, @Param("updatedAt") Instant updatedAt, @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"actor", "review"})
+    List<Notification> findByRecipientIdAndUpdatedAtGreaterThanEqualOrderByUpdatedAtAscIdAsc(Long recipientId, Instant since, Pageable pageable);
 }
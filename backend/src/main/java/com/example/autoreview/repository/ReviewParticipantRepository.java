@@ -0,0 +1,23 @@
+package com.example.autoreview.repository;
+
+import com.example.autoreview.domain.ReviewParticipant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReviewParticipantRepository extends JpaRepository<ReviewParticipant, Long> {
+    boolean existsByReviewIdAndUserId(Long reviewId, Long userId);
+
+    @Query("select p.user.id from ReviewParticipant p join p.user u where p.review.id = :reviewId and u.deleted = false")
+    List<Long> findActiveUserIdsByReviewId(@Param("reviewId") Long reviewId);
+
+    @Modifying
+    @Query("delete from ReviewParticipant p where p.review.id = :reviewId")
+    int deleteByReviewId(@Param("reviewId") Long reviewId);
+
+    @Modifying
+    @Query(value = "insert into review_participants (review_id, user_id, created_at) select c.review_id, c.author_id, min(c.created_at) from comments c where c.author_id is not null and not exists (select 1 from review_participants p where p.review_id = c.review_id and p.user_id = c.author_id) group by c.review_id, c.author_id", nativeQuery = true)
+    int backfillFromComments();
+}
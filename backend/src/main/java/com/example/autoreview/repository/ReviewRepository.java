@@ -4,8 +4,10 @@ import java.util.Optional;
 
 import com.example.autoreview.domain.Review;
 import com.example.autoreview.domain.ReviewStatus;
+import com.example.autoreview.repository.projection.ReviewSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -13,60 +15,66 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    @Query("select r from Review r where r.status = :status and (:brand is null or r.brand.name = :brand) and (:fuelType is null or r.fuelType = :fuelType) and (:priceSegment is null or r.priceSegment = :priceSegment)")
-    Page<Review> findByFilters(@org.springframework.data.repository.query.Param("status") ReviewStatus status, @org.springframework.data.repository.query.Param("brand") String brand, @org.springframework.data.repository.query.Param("fuelType") String fuelType, @org.springframework.data.repository.query.Param("priceSegment") String priceSegment, Pageable pageable);
+    String SUMMARY_SELECT = "select new com.example.autoreview.repository.projection.ReviewSummary(r.id, r.title, r.excerpt, r.heroImageUrl, r.slug, r.vehicleModel, r.vehicleYear, r.fuelType, r.priceSegment, r.likes, r.commentsCount, r.views, r.status, r.createdAt, r.publishedAt, b.name, a.id, a.username, a.avatarUrl, a.followers, a.rating, a.reviewCount) from Review r left join r.brand b left join r.author a ";
 
-    @Query("select r from Review r where r.status = com.example.autoreview.domain.ReviewStatus.APPROVED order by r.views desc")
-    Page<Review> findMostViewed(Pageable pageable);
-
-    Page<Review> findByStatus(ReviewStatus status, Pageable pageable);
+    String FILTERS_WHERE = "where r.status = :status and (:brand is null or b.name = :brand) and (:fuelType is null or r.fuelType = :fuelType) and (:priceSegment is null or r.priceSegment = :priceSegment) ";
 
+    @EntityGraph(attributePaths = {"author", "author.roles", "brand"})
     Optional<Review> findByIdAndStatus(Long id, ReviewStatus status);
 
-    Page<Review> findByAuthorEmailOrderByCreatedAtDesc(String email, Pageable pageable);
-
-    Page<Review> findByAuthorIdAndStatusOrderByCreatedAtDesc(Long authorId, ReviewStatus status, Pageable pageable);
-
-    Page<Review> findByAuthorUsernameAndStatusOrderByCreatedAtDesc(String username, ReviewStatus status, Pageable pageable);
+    @EntityGraph(attributePaths = {"author", "author.roles", "brand"})
+    @Query("select r from Review r where r.id = :id")
+    Optional<Review> findDetailedById(@org.springframework.data.repository.query.Param("id") Long id);
 
     long countByBrandIdAndStatus(Long brandId, ReviewStatus status);
 
-    @Query("select r.author.id, count(r) from Review r where r.status = com.example.autoreview.domain.ReviewStatus.APPROVED and r.author.id in :authorIds group by r.author.id")
-    java.util.List<Object[]> countApprovedByAuthorIds(@org.springframework.data.repository.query.Param("authorIds") java.util.Set<Long> authorIds);
-
     long countByAuthorIdAndStatus(Long authorId, ReviewStatus status);
 
-    @Query("""
-            select r from Review r
-            left join r.brand b
-            left join r.author a
-            where r.status = com.example.autoreview.domain.ReviewStatus.APPROVED
-              and (
-                lower(r.title) like lower(concat('%', :query, '%')) or
-                lower(r.excerpt) like lower(concat('%', :query, '%')) or
-                lower(r.vehicleModel) like lower(concat('%', :query, '%')) or
-                lower(r.priceSegment) like lower(concat('%', :query, '%')) or
-                lower(r.fuelType) like lower(concat('%', :query, '%')) or
-                (b is not null and lower(b.name) like lower(concat('%', :query, '%'))) or
-                (r.vehicleYear is not null and concat(r.vehicleYear, '') like concat('%', :query, '%')) or
-                (a is not null and lower(a.username) like lower(concat('%', :query, '%')))
-              )
-            order by
-              (
-                case when lower(r.title) like lower(concat('%', :query, '%')) then 6 else 0 end +
-                case when b is not null and lower(b.name) like lower(concat('%', :query, '%')) then 5 else 0 end +
-                case when a is not null and lower(a.username) like lower(concat('%', :query, '%')) then 5 else 0 end +
-                case when lower(r.excerpt) like lower(concat('%', :query, '%')) then 4 else 0 end +
-                case when lower(r.vehicleModel) like lower(concat('%', :query, '%')) then 3 else 0 end +
-                case when lower(r.priceSegment) like lower(concat('%', :query, '%')) then 2 else 0 end +
-                case when lower(r.fuelType) like lower(concat('%', :query, '%')) then 2 else 0 end +
-                case when r.vehicleYear is not null and concat(r.vehicleYear, '') like concat('%', :query, '%') then 1 else 0 end
-              ) desc,
-              r.createdAt desc
-            """)
-    Page<Review> searchApproved(@org.springframework.data.repository.query.Param("query") String query, Pageable pageable);
-
+    @EntityGraph(attributePaths = {"author", "author.roles", "brand"})
     java.util.Optional<Review> findBySlugAndStatus(String slug, ReviewStatus status);
 
+    @EntityGraph(attributePaths = {"author", "author.roles", "brand"})
     java.util.Optional<Review> findBySlug(String slug);
+
+    @Query(value = SUMMARY_SELECT + FILTERS_WHERE + "order by r.createdAt desc, r.id desc",
+            countQuery = "select count(r) from Review r left join r.brand b " + FILTERS_WHERE)
+    Page<ReviewSummary> findSummariesByFilters(@org.springframework.data.repository.query.Param("status") ReviewStatus status, @org.springframework.data.repository.query.Param("brand") String brand, @org.springframework.data.repository.query.Param("fuelType") String fuelType, @org.springframework.data.repository.query.Param("priceSegment") String priceSegment, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + FILTERS_WHERE + "order by r.createdAt desc, r.id desc")
+    java.util.List<ReviewSummary> findFirstSummariesByFilters(@org.springframework.data.repository.query.Param("status") ReviewStatus status, @org.springframework.data.repository.query.Param("brand") String brand, @org.springframework.data.repository.query.Param("fuelType") String fuelType, @org.springframework.data.repository.query.Param("priceSegment") String priceSegment, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + FILTERS_WHERE + "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id) or r.createdAt is null) order by r.createdAt desc, r.id desc")
+    java.util.List<ReviewSummary> findSummariesByFiltersAfter(@org.springframework.data.repository.query.Param("status") ReviewStatus status, @org.springframework.data.repository.query.Param("brand") String brand, @org.springframework.data.repository.query.Param("fuelType") String fuelType, @org.springframework.data.repository.query.Param("priceSegment") String priceSegment, @org.springframework.data.repository.query.Param("createdAt") java.time.Instant createdAt, @org.springframework.data.repository.query.Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + FILTERS_WHERE + "and r.createdAt is null and r.id < :id order by r.id desc")
+    java.util.List<ReviewSummary> findUndatedSummariesByFiltersAfter(@org.springframework.data.repository.query.Param("status") ReviewStatus status, @org.springframework.data.repository.query.Param("brand") String brand, @org.springframework.data.repository.query.Param("fuelType") String fuelType, @org.springframework.data.repository.query.Param("priceSegment") String priceSegment, @org.springframework.data.repository.query.Param("id") Long id, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "order by r.createdAt desc",
+            countQuery = "select count(r) from Review r")
+    Page<ReviewSummary> findAllSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "where r.status = :status order by r.createdAt desc",
+            countQuery = "select count(r) from Review r where r.status = :status")
+    Page<ReviewSummary> findSummariesByStatus(@org.springframework.data.repository.query.Param("status") ReviewStatus status, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "where a.id = :authorId order by r.createdAt desc",
+            countQuery = "select count(r) from Review r where r.author.id = :authorId")
+    Page<ReviewSummary> findSummariesByAuthorId(@org.springframework.data.repository.query.Param("authorId") Long authorId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "where a.id = :authorId and r.status = :status order by r.createdAt desc",
+            countQuery = "select count(r) from Review r where r.author.id = :authorId and r.status = :status")
+    Page<ReviewSummary> findSummariesByAuthorIdAndStatus(@org.springframework.data.repository.query.Param("authorId") Long authorId, @org.springframework.data.repository.query.Param("status") ReviewStatus status, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "where a.username = :username and r.status = :status order by r.createdAt desc",
+            countQuery = "select count(r) from Review r where r.author.username = :username and r.status = :status")
+    Page<ReviewSummary> findSummariesByAuthorUsernameAndStatus(@org.springframework.data.repository.query.Param("username") String username, @org.springframework.data.repository.query.Param("status") ReviewStatus status, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where r.status = :status")
+    java.util.List<ReviewSummary> findAllSummariesByStatus(@org.springframework.data.repository.query.Param("status") ReviewStatus status);
+
+    @Query(SUMMARY_SELECT + "where r.id in :ids")
+    java.util.List<ReviewSummary> findSummariesByIds(@org.springframework.data.repository.query.Param("ids") java.util.Collection<Long> ids);
+
+    @Query("select r.id, r.views, r.likes, r.commentsCount, r.publishedAt, r.createdAt from Review r where r.status = com.example.autoreview.domain.ReviewStatus.APPROVED")
+    java.util.List<Object[]> findTrendingSeeds();
 }
@@ -4,6 +4,7 @@ import com.example.autoreview.domain.User;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -25,6 +26,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query(value = "select * from users where id = :id", nativeQuery = true)
     Optional<User> findAnyById(@Param("id") Long id);
 
+    @Modifying(flushAutomatically = true)
+    @Query("update User u set u.reviewCount = coalesce(u.reviewCount, 0) + :delta where u.id = :id")
+    int adjustReviewCount(@Param("id") Long id, @Param("delta") int delta);
+
     @Query("select u from User u order by u.followers desc, u.rating desc")
     List<User> findTopReviewers(org.springframework.data.domain.Pageable pageable);
 }
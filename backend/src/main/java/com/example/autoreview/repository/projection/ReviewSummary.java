@@ -0,0 +1,143 @@
+package com.example.autoreview.repository.projection;
+
+import com.example.autoreview.domain.ReviewStatus;
+import java.time.Instant;
+
+public class ReviewSummary {
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final String heroImageUrl;
+    private final String slug;
+    private final String vehicleModel;
+    private final Integer vehicleYear;
+    private final String fuelType;
+    private final String priceSegment;
+    private final Integer likes;
+    private final Integer commentsCount;
+    private final Integer views;
+    private final ReviewStatus status;
+    private final Instant createdAt;
+    private final Instant publishedAt;
+    private final String brandName;
+    private final Long authorId;
+    private final String authorUsername;
+    private final String authorAvatar;
+    private final Integer authorFollowers;
+    private final Double authorRating;
+    private final Integer authorReviewCount;
+
+    public ReviewSummary(Long id, String title, String excerpt, String heroImageUrl, String slug, String vehicleModel, Integer vehicleYear, String fuelType, String priceSegment, Integer likes, Integer commentsCount, Integer views, ReviewStatus status, Instant createdAt, Instant publishedAt, String brandName, Long authorId, String authorUsername, String authorAvatar, Integer authorFollowers, Double authorRating, Integer authorReviewCount) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.heroImageUrl = heroImageUrl;
+        this.slug = slug;
+        this.vehicleModel = vehicleModel;
+        this.vehicleYear = vehicleYear;
+        this.fuelType = fuelType;
+        this.priceSegment = priceSegment;
+        this.likes = likes;
+        this.commentsCount = commentsCount;
+        this.views = views;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.publishedAt = publishedAt;
+        this.brandName = brandName;
+        this.authorId = authorId;
+        this.authorUsername = authorUsername;
+        this.authorAvatar = authorAvatar;
+        this.authorFollowers = authorFollowers;
+        this.authorRating = authorRating;
+        this.authorReviewCount = authorReviewCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public String getHeroImageUrl() {
+        return heroImageUrl;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public String getVehicleModel() {
+        return vehicleModel;
+    }
+
+    public Integer getVehicleYear() {
+        return vehicleYear;
+    }
+
+    public String getFuelType() {
+        return fuelType;
+    }
+
+    public String getPriceSegment() {
+        return priceSegment;
+    }
+
+    public Integer getLikes() {
+        return likes;
+    }
+
+    public Integer getCommentsCount() {
+        return commentsCount;
+    }
+
+    public Integer getViews() {
+        return views;
+    }
+
+    public ReviewStatus getStatus() {
+        return status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public String getBrandName() {
+        return brandName;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public String getAuthorUsername() {
+        return authorUsername;
+    }
+
+    public String getAuthorAvatar() {
+        return authorAvatar;
+    }
+
+    public Integer getAuthorFollowers() {
+        return authorFollowers;
+    }
+
+    public Double getAuthorRating() {
+        return authorRating;
+    }
+
+    public Integer getAuthorReviewCount() {
+        return authorReviewCount;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.autoreview.security;
+
+import io.jsonwebtoken.Claims;
+import java.security.Principal;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public record AuthenticatedUser(Long id, String email, String username, Set<String> roles) implements Principal {
+
+    public static AuthenticatedUser from(Claims claims) {
+        Set<String> roles = new LinkedHashSet<>();
+        if (claims.get("roles") instanceof Iterable<?> iterable) {
+            iterable.forEach(role -> roles.add(role.toString()));
+        }
+        Long id = claims.get("uid") instanceof Number number ? number.longValue() : null;
+        return new AuthenticatedUser(id, claims.getSubject(), claims.get("username", String.class), Set.copyOf(roles));
+    }
+
+    public AuthenticatedUser withId(Long id) {
+        return new AuthenticatedUser(id, email, username, roles);
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.autoreview.security;
 
+import com.example.autoreview.repository.UserRepository;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpHeaders;
@@ -11,9 +12,11 @@ import org.springframework.util.StringUtils;
 public class CurrentUserResolver {
 
     private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
 
-    public CurrentUserResolver(JwtUtil jwtUtil) {
+    public CurrentUserResolver(JwtUtil jwtUtil, UserRepository userRepository) {
         this.jwtUtil = jwtUtil;
+        this.userRepository = userRepository;
     }
 
     public String resolveEmail(UserDetails userDetails, HttpServletRequest request) {
@@ -21,27 +24,46 @@ public class CurrentUserResolver {
     }
 
     public String resolveEmail(Object principal, HttpServletRequest request) {
+        if (principal instanceof AuthenticatedUser user) {
+            return user.email();
+        }
         if (principal instanceof UserDetails userDetails) {
             return userDetails.getUsername();
         }
-        if (principal instanceof String subject) {
-            return subject;
+        AuthenticatedUser user = fromToken(request);
+        return user != null ? user.email() : null;
+    }
+
+    public Long resolveUserId(Object principal, HttpServletRequest request) {
+        AuthenticatedUser user = resolve(principal, request);
+        return user != null ? user.id() : null;
+    }
+
+    public AuthenticatedUser resolve(Object principal, HttpServletRequest request) {
+        AuthenticatedUser user = principal instanceof AuthenticatedUser authenticated ? authenticated : fromToken(request);
+        if (user == null || user.id() != null) {
+            return user;
+        }
+        return userRepository.findByEmail(user.email()).map(found -> user.withId(found.getId())).orElse(null);
+    }
+
+    private AuthenticatedUser fromToken(HttpServletRequest request) {
+        if (request == null) {
+            return null;
         }
-        if (request != null) {
-            String bearer = request.getHeader(HttpHeaders.AUTHORIZATION);
-            if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
-                try {
-                    return jwtUtil.parse(bearer.substring(7)).getSubject();
-                } catch (Exception ignored) {
-                }
+        String bearer = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
+            try {
+                return jwtUtil.verify(bearer.substring(7));
+            } catch (Exception ignored) {
             }
-            if (request.getCookies() != null) {
-                for (Cookie cookie : request.getCookies()) {
-                    if ("AUTH_TOKEN".equals(cookie.getName())) {
-                        try {
-                            return jwtUtil.parse(cookie.getValue()).getSubject();
-                        } catch (Exception ignored) {
-                        }
+        }
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if ("AUTH_TOKEN".equals(cookie.getName())) {
+                    try {
+                        return jwtUtil.verify(cookie.getValue());
+                    } catch (Exception ignored) {
                     }
                 }
             }
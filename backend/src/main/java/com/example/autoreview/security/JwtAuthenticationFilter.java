@@ -1,6 +1,5 @@
 package com.example.autoreview.security;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -8,7 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.List;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -32,14 +31,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = resolveToken(request);
         if (token != null) {
             try {
-                Claims claims = jwtUtil.parse(token);
-                String subject = claims.getSubject();
-                Object rolesObj = claims.get("roles");
-                var authorities = rolesObj instanceof Iterable<?> iterable
-                        ? buildAuthorities(iterable)
-                        : Collections.<SimpleGrantedAuthority>emptyList();
+                AuthenticatedUser user = jwtUtil.verify(token);
+                List<SimpleGrantedAuthority> authorities = user.roles().stream().map(SimpleGrantedAuthority::new).toList();
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        subject, null, authorities);
+                        user, null, authorities);
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } catch (Exception ex) {
@@ -63,12 +58,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-
-    private java.util.List<SimpleGrantedAuthority> buildAuthorities(Iterable<?> roles) {
-        java.util.List<SimpleGrantedAuthority> authorities = new java.util.ArrayList<>();
-        for (Object role : roles) {
-            authorities.add(new SimpleGrantedAuthority(role.toString()));
-        }
-        return authorities;
-    }
 }
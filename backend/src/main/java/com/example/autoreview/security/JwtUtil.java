@@ -1,51 +1,111 @@
 package com.example.autoreview.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil {
 
+    private record Verified(AuthenticatedUser user, long expiresAtMillis) {
+    }
+
     private final Key key;
+    private final JwtParser parser;
     private final long expirationMinutes;
     private final String issuer;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Verified> verified = new ConcurrentHashMap<>();
+    private final int claimsCacheSize;
 
+    @Autowired
     public JwtUtil(
             @Value("${app.jwt.secret}") String secret,
             @Value("${app.jwt.expiration-minutes}") long expirationMinutes,
-            @Value("${app.jwt.issuer:auto-review}") String issuer) {
+            @Value("${app.jwt.issuer:auto-review}") String issuer,
+            @Value("${app.jwt.claims-cache-size:10000}") int claimsCacheSize) {
+        this(secret, expirationMinutes, issuer, claimsCacheSize, Clock.systemUTC());
+    }
+
+    JwtUtil(String secret, long expirationMinutes, String issuer, int claimsCacheSize, Clock clock) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.clock = clock;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
         this.expirationMinutes = expirationMinutes;
         this.issuer = issuer;
+        this.claimsCacheSize = claimsCacheSize;
     }
 
-    public String generateToken(String subject, Set<String> roles) {
-        Instant now = Instant.now();
+    public String generateToken(Long userId, String email, String username, Set<String> roles) {
+        Instant now = clock.instant();
         Instant expiry = now.plusSeconds(expirationMinutes * 60);
         return Jwts.builder()
-                .setSubject(subject)
+                .setSubject(email)
                 .setIssuer(issuer)
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(expiry))
+                .claim("uid", userId)
+                .claim("username", username)
                 .claim("roles", roles)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public Claims parse(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public AuthenticatedUser verify(String token) {
+        String digest = digest(token);
+        long now = clock.millis();
+        Verified entry = verified.get(digest);
+        if (entry != null && now < entry.expiresAtMillis()) {
+            return entry.user();
+        }
+        if (entry != null) {
+            verified.remove(digest, entry);
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        AuthenticatedUser user = AuthenticatedUser.from(claims);
+        if (claims.getExpiration() != null) {
+            verified.put(digest, new Verified(user, claims.getExpiration().getTime()));
+            if (verified.size() > claimsCacheSize) {
+                evict(now);
+            }
+        }
+        return user;
+    }
+
+    private void evict(long now) {
+        verified.values().removeIf(entry -> now >= entry.expiresAtMillis());
+        Iterator<String> digests = verified.keySet().iterator();
+        while (verified.size() > claimsCacheSize && digests.hasNext()) {
+            digests.next();
+            digests.remove();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
     }
 }
@@ -0,0 +1,103 @@
+package com.example.autoreview.publicsite.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.autoreview.domain.Review;
+import com.example.autoreview.domain.ReviewStatus;
+import com.example.autoreview.domain.User;
+import com.example.autoreview.exception.ApiException;
+import com.example.autoreview.publicsite.dto.request.CreateCommentRequest;
+import com.example.autoreview.publicsite.dto.response.CommentDto;
+import com.example.autoreview.security.AuthenticatedUser;
+import com.example.autoreview.security.Roles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class CommentThreadTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private CommentThreadBackfill commentThreadBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Review review;
+    private User first;
+    private User second;
+
+    @BeforeEach
+    void setUp() {
+        review = newReview(newUser(), ReviewStatus.APPROVED);
+        first = newUser();
+        second = newUser();
+    }
+
+    @Test
+    void commentThreadsPageRootsAndLoadRepliesInOneQuery() {
+        CommentDto root = reviewService.addComment(review.getId(), first.getId(), comment("Root", null));
+        CommentDto reply = reviewService.addComment(review.getId(), second.getId(), comment("Reply", root.getId()));
+        CommentDto nested = reviewService.addComment(review.getId(), first.getId(), comment("Nested", reply.getId()));
+        List<CommentDto> thread = new ArrayList<>();
+        long count = statements(() -> thread.addAll(reviewService.listComments(review.getId(), 0, 1, "latest", null)));
+        assertThat(thread).extracting(CommentDto::getId).containsExactly(root.getId(), reply.getId(), nested.getId());
+        assertThat(count).isEqualTo(3);
+    }
+
+    @Test
+    void commentAuthorsResolveWithoutPerCommentLookups() {
+        User ghost = newUser();
+        CommentDto root = reviewService.addComment(review.getId(), first.getId(), comment("Root", null));
+        CreateCommentRequest anonymous = comment("Anonymous", root.getId());
+        anonymous.setAnonymous(true);
+        CommentDto hidden = reviewService.addComment(review.getId(), second.getId(), anonymous);
+        CommentDto orphan = reviewService.addComment(review.getId(), ghost.getId(), comment("Ghost", root.getId()));
+        CommentDto named = reviewService.addComment(review.getId(), second.getId(), comment("Named", root.getId()));
+        userRepository.deleteById(ghost.getId());
+        List<CommentDto> thread = new ArrayList<>();
+        long count = statements(() -> thread.addAll(reviewService.listComments(review.getId(), 0, 1, "latest", null)));
+        Map<Long, CommentDto> byId = thread.stream().collect(Collectors.toMap(CommentDto::getId, dto -> dto));
+        assertThat(count).isEqualTo(3);
+        assertThat(byId.get(root.getId()).getAuthorId()).isEqualTo(first.getId());
+        assertThat(byId.get(root.getId()).getAuthorReviewCount()).isNotNull();
+        assertThat(byId.get(named.getId()).getAuthorUsername()).isEqualTo(second.getUsername());
+        assertThat(byId.get(hidden.getId()).getAuthorId()).isNull();
+        assertThat(byId.get(orphan.getId()).getAuthorId()).isNull();
+    }
+
+    @Test
+    void backfillResolvesNestedThreadRoots() {
+        CommentDto root = reviewService.addComment(review.getId(), first.getId(), comment("Root", null));
+        CommentDto reply = reviewService.addComment(review.getId(), second.getId(), comment("Reply", root.getId()));
+        CommentDto nested = reviewService.addComment(review.getId(), first.getId(), comment("Nested", reply.getId()));
+        jdbcTemplate.update("UPDATE comments SET root_id = NULL WHERE id IN (?, ?)", reply.getId(), nested.getId());
+        commentThreadBackfill.backfillRootIds();
+        assertThat(jdbcTemplate.queryForList("SELECT root_id FROM comments WHERE id IN (?, ?)", Long.class, reply.getId(), nested.getId()))
+                .containsExactly(root.getId(), root.getId());
+    }
+
+    @Test
+    void commentDeletionIsAuthorizedFromTokenRoles() {
+        CommentDto root = reviewService.addComment(review.getId(), first.getId(), comment("Root", null));
+        assertThatThrownBy(() -> reviewService.deleteComment(root.getId(), principal(second)))
+                .isInstanceOfSatisfying(ApiException.class, ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.FORBIDDEN));
+        AuthenticatedUser moderator = new AuthenticatedUser(second.getId(), second.getEmail(), second.getUsername(), Set.of(Roles.ADMIN));
+        reviewService.deleteComment(root.getId(), moderator);
+        assertThat(reviewService.listComments(review.getId(), 0, 10, "latest", null)).isEmpty();
+    }
+
+    static CreateCommentRequest comment(String content, Long parentId) {
+        CreateCommentRequest request = new CreateCommentRequest();
+        request.setContent(content);
+        request.setParentId(parentId);
+        return request;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.autoreview.publicsite.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class FuzzyVocabularyTest {
+
+    @Test
+    void distanceCountsTranspositionsAsOneEdit() {
+        assertThat(FuzzyVocabulary.distance("tyoota", "toyota")).isEqualTo(1);
+        assertThat(FuzzyVocabulary.distance("honda", "hodna")).isEqualTo(1);
+        assertThat(FuzzyVocabulary.distance("mazda", "mazda")).isZero();
+        assertThat(FuzzyVocabulary.distance("", "kia")).isEqualTo(3);
+    }
+
+    @Test
+    void distanceSatisfiesTheTriangleInequalityUsedForTreePruning() {
+        String[] words = {"ca", "ac", "abc", "cab", "bca", "acb", "ford", "fodr", "dorf", "vinfast", "vinfats", "fast"};
+        for (String a : words) {
+            for (String b : words) {
+                for (String c : words) {
+                    assertThat(FuzzyVocabulary.distance(a, c))
+                            .isLessThanOrEqualTo(FuzzyVocabulary.distance(a, b) + FuzzyVocabulary.distance(b, c));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.autoreview.publicsite.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexSearchEngineTest {
+
+    private static final SearchField[] CORPUS_COLUMNS = {
+            SearchField.TITLE, SearchField.BRAND, SearchField.AUTHOR, SearchField.EXCERPT,
+            SearchField.MODEL, SearchField.PRICE_SEGMENT, SearchField.FUEL, SearchField.YEAR
+    };
+
+    private final InvertedIndexSearchEngine engine = new InvertedIndexSearchEngine();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        List<SearchDocument> documents = new ArrayList<>();
+        for (String[] row : read("/search/reviews.tsv")) {
+            Map<SearchField, String> fields = new EnumMap<>(SearchField.class);
+            for (int i = 0; i < CORPUS_COLUMNS.length; i++) {
+                fields.put(CORPUS_COLUMNS[i], row[i + 1]);
+            }
+            long id = Long.parseLong(row[0]);
+            documents.add(new SearchDocument(id, Instant.EPOCH.plusSeconds(id), fields));
+        }
+        engine.rebuild(documents);
+    }
+
+    @Test
+    void foldsVietnameseDiacritics() {
+        assertThat(SearchTokenizer.fold("Xe ĐIỆN Đà Nẵng, giá rẻ")).isEqualTo("xe dien da nang, gia re");
+        assertThat(SearchTokenizer.tokens("Hà Nội – Đà Nẵng")).containsExactly("ha", "noi", "da", "nang");
+        assertThat(SearchTokenizer.edgeGrams("Điện")).containsExactly("d", "di", "die", "dien");
+    }
+
+    @Test
+    void judgedQueriesRankExpectedReviewsFirst() throws IOException {
+        for (String[] judgment : read("/search/judgments.tsv")) {
+            List<Long> expected = Arrays.stream(judgment[1].split(",")).map(Long::valueOf).toList();
+            SearchEngine.Hits hits = engine.search(judgment[0], 0, expected.size());
+            assertThat(hits.ids()).as(judgment[0]).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void exactWordsOutrankPrefixMatches() {
+        assertThat(engine.search("xe dien", 0, 10).ids()).containsSubsequence(10L, 9L);
+    }
+
+    @Test
+    void facetCountsIntersectMatchesWithOtherFilters() {
+        Map<SearchEngine.Facet, String> filters = new EnumMap<>(SearchEngine.Facet.class);
+        filters.put(SearchEngine.Facet.BRAND, "VinFast");
+        Map<SearchEngine.Facet, Map<String, Long>> facets = engine.facets("xe dien", filters);
+        assertThat(facets.get(SearchEngine.Facet.BRAND)).containsExactly(Map.entry("VinFast", 2L), Map.entry("Hyundai", 1L), Map.entry("Mitsubishi", 1L));
+        assertThat(facets.get(SearchEngine.Facet.FUEL_TYPE)).containsExactly(Map.entry("Điện", 2L));
+        engine.remove(10L);
+        assertThat(engine.facets(null, Map.of()).get(SearchEngine.Facet.BRAND)).containsEntry("VinFast", 1L).containsEntry("Toyota", 3L);
+    }
+
+    @Test
+    void reindexingReplacesPreviousTerms() {
+        Map<SearchField, String> fields = new EnumMap<>(SearchField.class);
+        fields.put(SearchField.TITLE, "Kia Morning bản nâng cấp");
+        engine.index(new SearchDocument(5L, Instant.EPOCH, fields));
+        assertThat(engine.search("nang cap", 0, 10).ids()).startsWith(5L);
+        assertThat(engine.search("tiet kiem xang", 0, 10).ids()).doesNotContain(5L);
+        engine.remove(5L);
+        assertThat(engine.search("morning", 0, 10).total()).isZero();
+    }
+
+    private List<String[]> read(String resource) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(getClass().getResourceAsStream(resource), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    rows.add(line.split("\t"));
+                }
+            }
+        }
+        return rows;
+    }
+}
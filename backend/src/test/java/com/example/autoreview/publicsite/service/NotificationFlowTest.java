@@ -0,0 +1,259 @@
+package com.example.autoreview.publicsite.service;
+
+import static com.example.autoreview.publicsite.service.CommentThreadTest.comment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.example.autoreview.domain.Notification;
+import com.example.autoreview.domain.NotificationOutbox;
+import com.example.autoreview.domain.Review;
+import com.example.autoreview.domain.ReviewStatus;
+import com.example.autoreview.domain.User;
+import com.example.autoreview.publicsite.dto.response.CommentDto;
+import com.example.autoreview.publicsite.dto.response.NotificationDto;
+import com.example.autoreview.publicsite.dto.response.NotificationListResponse;
+import com.example.autoreview.repository.NotificationOutboxRepository;
+import com.example.autoreview.repository.NotificationRepository;
+import com.example.autoreview.security.JwtUtil;
+import com.example.autoreview.security.Roles;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class NotificationFlowTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRetention notificationRetention;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ApplicationEventMulticaster applicationEventMulticaster;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User author;
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        author = newUser();
+        review = newReview(author, ReviewStatus.APPROVED);
+    }
+
+    @Test
+    void commentNotificationsAreDispatchedToEveryParticipantOnce() {
+        User first = newUser();
+        User second = newUser();
+        User third = newUser();
+        reviewService.addComment(review.getId(), first.getId(), comment("First", null));
+        reviewService.addComment(review.getId(), second.getId(), comment("Second", null));
+        CommentDto latest = reviewService.addComment(review.getId(), third.getId(), comment("Third", null));
+        notificationDispatcher.drain();
+        List<Long> recipients = notificationRepository.findAll().stream()
+                .filter(notification -> notification.getComment() != null && latest.getId().equals(notification.getComment().getId()))
+                .map(notification -> notification.getRecipient().getId())
+                .toList();
+        assertThat(recipients).containsExactlyInAnyOrder(first.getId(), second.getId(), author.getId());
+    }
+
+    @Test
+    void commentFanOutIsOrderedPerRecipient() {
+        User watcher = newUser();
+        reviewService.addComment(review.getId(), watcher.getId(), comment("Watching", null));
+        CommentDto latest = reviewService.addComment(review.getId(), newUser().getId(), comment("Ping", null));
+        assertThat(outboxRepository.findAll())
+                .filteredOn(event -> latest.getId().equals(event.getCommentId()))
+                .extracting(NotificationOutbox::getOrderingKey)
+                .containsExactlyInAnyOrder("user:" + author.getId(), "user:" + watcher.getId());
+        notificationDispatcher.drain();
+    }
+
+    @Test
+    void likesOnOneReviewMergeIntoOneNotification() {
+        List<User> likers = Stream.generate(this::newUser).limit(3).toList();
+        reviewService.likeReview(review.getId(), likers.get(0).getId());
+        notificationDispatcher.drain();
+        Instant firstLikedAt = notificationService.list(author.getId(), null, 50).getNotifications().stream()
+                .filter(dto -> "LIKE_REVIEW".equals(dto.getType()) && review.getId().equals(dto.getReviewId()))
+                .findFirst().orElseThrow().getCreatedAt();
+        likers.subList(1, 3).forEach(liker -> reviewService.likeReview(review.getId(), liker.getId()));
+        notificationDispatcher.drain();
+        List<NotificationDto> likes = notificationService.list(author.getId(), null, 50).getNotifications().stream()
+                .filter(dto -> "LIKE_REVIEW".equals(dto.getType()) && review.getId().equals(dto.getReviewId()))
+                .toList();
+        assertThat(likes).hasSize(1);
+        assertThat(likes.get(0).getActorCount()).isEqualTo(3);
+        assertThat(likes.get(0).getSampleActors()).hasSize(3);
+        assertThat(likes.get(0).getActorUsername()).isEqualTo(likers.get(2).getUsername());
+        assertThat(likes.get(0).getCreatedAt()).isEqualTo(firstLikedAt);
+        assertThat(likes.get(0).getUpdatedAt()).isAfterOrEqualTo(firstLikedAt);
+    }
+
+    @Test
+    void failingEventDoesNotBlockOtherRecipients() {
+        NotificationOutbox broken = new NotificationOutbox();
+        broken.setType("NEW_COMMENT");
+        broken.setActorId(newUser().getId());
+        broken.setReviewId(review.getId());
+        broken.setOrderingKey("review:" + review.getId());
+        broken.setCreatedAt(Instant.now());
+        broken = outboxRepository.save(broken);
+        reviewService.likeReview(review.getId(), newUser().getId());
+        notificationDispatcher.drain();
+        NotificationOutbox retried = outboxRepository.findById(broken.getId()).orElseThrow();
+        outboxRepository.delete(retried);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getClaimedBy()).isNull();
+        assertThat(notificationService.list(author.getId(), null, 50).getNotifications())
+                .anyMatch(dto -> "LIKE_REVIEW".equals(dto.getType()) && review.getId().equals(dto.getReviewId()));
+    }
+
+    @Test
+    void failingDeliveryListenerDoesNotRedeliverTheEvent() {
+        reviewService.likeReview(review.getId(), newUser().getId());
+        ApplicationListener<ApplicationEvent> failing = event -> {
+            if (event instanceof PayloadApplicationEvent<?> payload && payload.getPayload() instanceof NotificationsDeliveredEvent) {
+                throw new IllegalStateException("listener failed");
+            }
+        };
+        applicationEventMulticaster.addApplicationListener(failing);
+        try {
+            notificationDispatcher.drain();
+        } finally {
+            applicationEventMulticaster.removeApplicationListener(failing);
+        }
+        notificationDispatcher.drain();
+        assertThat(outboxRepository.findAll()).noneMatch(event -> review.getId().equals(event.getReviewId()));
+        assertThat(notificationRepository.findAll())
+                .filteredOn(notification -> "LIKE_REVIEW".equals(notification.getType()) && notification.getReview() != null && review.getId().equals(notification.getReview().getId()))
+                .hasSize(1);
+    }
+
+    @Test
+    void unreadCountIsServedFromMemoryAfterWarmUp() {
+        assertThat(notificationService.countUnread(author.getId())).isZero();
+        reviewService.addComment(review.getId(), newUser().getId(), comment("Ping", null));
+        notificationDispatcher.drain();
+        long[] unread = new long[1];
+        assertThat(statements(() -> unread[0] = notificationService.countUnread(author.getId()))).isZero();
+        assertThat(unread[0]).isEqualTo(1);
+    }
+
+    @Test
+    void rolledBackMarkReadLeavesTheUnreadCountAlone() {
+        Notification unread = notificationRepository.save(notification("Rolled back", false, Instant.now()));
+        long before = notificationService.countUnread(author.getId());
+        transactionTemplate.executeWithoutResult(status -> {
+            notificationService.markRead(unread.getId(), author.getId());
+            status.setRollbackOnly();
+        });
+        assertThat(notificationService.countUnread(author.getId())).isEqualTo(before);
+    }
+
+    @Test
+    void notificationPagesFollowTheCursorAndReadUpToMarksInBulk() {
+        Instant createdAt = Instant.now().plusSeconds(60);
+        List<Notification> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(notification("Page " + i, false, createdAt));
+        }
+        notificationRepository.saveAll(created);
+        assertThat(notificationRepository.countByRecipientIdAndReadFlagFalse(author.getId())).isEqualTo(5);
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            NotificationListResponse page = notificationService.list(author.getId(), cursor, 2);
+            page.getNotifications().forEach(dto -> seen.add(dto.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        List<Long> expected = created.stream()
+                .sorted(Comparator.comparing(Notification::getCreatedAt).thenComparing(Notification::getId).reversed())
+                .map(Notification::getId)
+                .toList();
+        assertThat(seen).containsExactlyElementsOf(expected);
+        Long upTo = created.get(2).getId();
+        assertThat(statements(() -> notificationService.markAllRead(author.getId(), upTo))).isEqualTo(2);
+        assertThat(notificationRepository.countByRecipientIdAndReadFlagFalse(author.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void retentionPurgesExpiredReadNotificationsOnly() {
+        Instant old = Instant.now().minus(Duration.ofDays(400));
+        List<Notification> seeded = notificationRepository.saveAll(List.of(notification("Old read", true, old), notification("Old unread", false, old)));
+        notificationRetention.purge();
+        assertThat(notificationRepository.existsById(seeded.get(0).getId())).isFalse();
+        assertThat(notificationRepository.existsById(seeded.get(1).getId())).isTrue();
+    }
+
+    @Test
+    void retentionTrimsUnreadBeyondTheCapOldestFirst() {
+        Instant start = Instant.now().minus(Duration.ofDays(1));
+        List<Notification> created = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            created.add(notification("Unread " + i, false, start.plusSeconds(i / 2)));
+        }
+        notificationRepository.saveAll(created);
+        notificationRetention.purge();
+        List<Long> kept = created.stream().map(Notification::getId).filter(notificationRepository::existsById).toList();
+        assertThat(kept).containsExactlyElementsOf(created.subList(4, 9).stream().map(Notification::getId).toList());
+    }
+
+    @Test
+    void openStreamsDoNotHoldDatabaseConnections() throws Exception {
+        User subscriber = newUser(Roles.USER);
+        String token = jwtUtil.generateToken(subscriber.getId(), subscriber.getEmail(), subscriber.getUsername(), Set.of(Roles.USER));
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/notifications/stream").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(request().asyncStarted());
+        }
+        assertThat(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections()).isZero();
+    }
+
+    private Notification notification(String message, boolean read, Instant createdAt) {
+        Notification notification = new Notification();
+        notification.setRecipient(author);
+        notification.setType("SYSTEM");
+        notification.setMessage(message);
+        notification.setReadFlag(read);
+        notification.setCreatedAt(createdAt);
+        return notification;
+    }
+}
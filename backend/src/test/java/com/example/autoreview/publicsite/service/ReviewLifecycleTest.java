@@ -0,0 +1,103 @@
+package com.example.autoreview.publicsite.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.autoreview.domain.Review;
+import com.example.autoreview.domain.ReviewStatus;
+import com.example.autoreview.domain.User;
+import com.example.autoreview.exception.ApiException;
+import com.example.autoreview.publicsite.dto.response.ReviewSummaryDto;
+import com.example.autoreview.security.AuthenticatedUser;
+import com.example.autoreview.security.Roles;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+
+class ReviewLifecycleTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private ReviewViewCounter reviewViewCounter;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthorReviewCountReconciler authorReviewCountReconciler;
+
+    @Test
+    void detailViewsAreBufferedPerUniqueViewer() {
+        Review review = newReview(newUser(), ReviewStatus.APPROVED);
+        reviewService.getPublic(review.getId(), null, "c:viewer-1");
+        reviewService.getPublic(review.getId(), null, "c:viewer-1");
+        reviewService.getPublic(review.getId(), null, "c:viewer-2");
+        reviewViewCounter.flush();
+        assertThat(reviewRepository.findById(review.getId()).orElseThrow().getViews()).isEqualTo(2);
+    }
+
+    @Test
+    void spoofedForwardedForDoesNotCountAsANewViewer() throws Exception {
+        Review review = newReview(newUser(), ReviewStatus.APPROVED);
+        for (String forwarded : List.of("203.0.113.1", "203.0.113.2", "203.0.113.3")) {
+            mockMvc.perform(get("/reviews/{id}", review.getId()).header("X-Forwarded-For", forwarded).header(HttpHeaders.USER_AGENT, "Mozilla/5.0"))
+                    .andExpect(status().isOk());
+        }
+        reviewViewCounter.flush();
+        assertThat(reviewRepository.findById(review.getId()).orElseThrow().getViews()).isEqualTo(1);
+    }
+
+    @Test
+    void authorReviewCountFollowsStatusTransitions() {
+        User author = newUser();
+        AuthenticatedUser admin = principal(newUser(Roles.ADMIN));
+        newReview(author, ReviewStatus.APPROVED);
+        Review review = newReview(author, ReviewStatus.PENDING);
+        assertThat(userRepository.findById(author.getId()).orElseThrow().getReviewCount()).isEqualTo(1);
+        reviewService.setStatus(review.getId(), admin, ReviewStatus.APPROVED);
+        assertThat(userRepository.findById(author.getId()).orElseThrow().getReviewCount()).isEqualTo(2);
+        reviewService.setStatus(review.getId(), admin, ReviewStatus.REJECTED);
+        assertThat(userRepository.findById(author.getId()).orElseThrow().getReviewCount()).isEqualTo(1);
+        reviewService.restoreRejected(review.getId(), admin);
+        assertThat(userRepository.findById(author.getId()).orElseThrow().getReviewCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reconcilerRepairsDriftedAuthorCounts() {
+        User author = newUser();
+        newReview(author, ReviewStatus.APPROVED);
+        User drifted = userRepository.findById(author.getId()).orElseThrow();
+        drifted.setReviewCount(7);
+        userRepository.save(drifted);
+        authorReviewCountReconciler.reconcile();
+        assertThat(userRepository.findById(author.getId()).orElseThrow().getReviewCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unhiddenReviewsReturnToViewRankings() {
+        User author = newUser();
+        Review review = newReview(author, ReviewStatus.APPROVED);
+        review.setViews(1_000_000_000);
+        reviewRepository.save(review);
+        reviewService.hideOwn(review.getId(), author.getId());
+        assertThat(reviewService.mostViewed(1, null)).extracting(ReviewSummaryDto::getId).doesNotContain(review.getId());
+        reviewService.unhideOwn(review.getId(), author.getId());
+        assertThat(reviewService.mostViewed(1, null)).extracting(ReviewSummaryDto::getId).containsExactly(review.getId());
+        assertThat(reviewService.trending(ReviewTrendingEngine.Window.ALL_TIME, 1, null)).extracting(ReviewSummaryDto::getId).containsExactly(review.getId());
+    }
+
+    @Test
+    void deletedUsersCannotActWithTheirLiveToken() {
+        Review review = newReview(newUser(), ReviewStatus.APPROVED);
+        User deleted = newUser(Roles.ADMIN);
+        userRepository.delete(deleted);
+        assertThatThrownBy(() -> reviewService.likeReview(review.getId(), deleted.getId()))
+                .isInstanceOfSatisfying(ApiException.class, ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED));
+        assertThatThrownBy(() -> reviewService.setStatus(review.getId(), principal(deleted), ReviewStatus.REJECTED))
+                .isInstanceOfSatisfying(ApiException.class, ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED));
+    }
+}
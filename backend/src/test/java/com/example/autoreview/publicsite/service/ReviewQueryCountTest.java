@@ -0,0 +1,119 @@
+package com.example.autoreview.publicsite.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.autoreview.domain.Review;
+import com.example.autoreview.domain.ReviewStatus;
+import com.example.autoreview.domain.User;
+import com.example.autoreview.domain.VehicleBrand;
+import com.example.autoreview.publicsite.dto.response.ReviewListResponse;
+import com.example.autoreview.publicsite.dto.response.ReviewSummaryDto;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReviewQueryCountTest extends ServiceIntegrationTest {
+
+    private User author;
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        author = newUser();
+        review = newReview(author, ReviewStatus.APPROVED);
+    }
+
+    @Test
+    void feedPageUsesSummaryAndCount() {
+        assertThat(statements(() -> reviewService.getFeed(null, null, null, 0, 2, null, false))).isEqualTo(2);
+    }
+
+    @Test
+    void feedFacetsComeFromTheIndex() {
+        ReviewListResponse[] response = new ReviewListResponse[1];
+        assertThat(statements(() -> response[0] = reviewService.getFeed(null, null, null, 0, 2, null, true))).isEqualTo(2);
+        assertThat(response[0].getFacets().get("brand").values().stream().mapToLong(Long::longValue).sum()).isEqualTo(response[0].getTotal());
+    }
+
+    @Test
+    void pagedFeedHandsOverToKeysetPaging() {
+        ReviewListResponse first = reviewService.getFeed(null, null, null, 0, 1, null, false);
+        assertThat(first.getNextCursor()).isNotNull();
+        ReviewListResponse second = reviewService.getFeed(null, null, null, 1, 1, null, false);
+        ReviewListResponse next = reviewService.getFeedByCursor(null, null, null, first.getNextCursor(), 1, null);
+        assertThat(next.getReviews()).extracting(ReviewSummaryDto::getId).containsExactlyElementsOf(second.getReviews().stream().map(ReviewSummaryDto::getId).toList());
+    }
+
+    @Test
+    void cursorFeedPagesThroughReviewsWithoutCreationTime() {
+        VehicleBrand brand = newBrand();
+        Review dated = newReview(author, brand, "Dated", ReviewStatus.APPROVED);
+        List<Review> undated = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Review review = newReview(author, brand, "Undated", ReviewStatus.APPROVED);
+            review.setCreatedAt(null);
+            undated.add(reviewRepository.save(review));
+        }
+        List<Long> seen = new ArrayList<>();
+        String cursor = "";
+        do {
+            ReviewListResponse page = reviewService.getFeedByCursor(brand.getName(), null, null, cursor, 1, null);
+            page.getReviews().forEach(dto -> seen.add(dto.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(seen).containsExactly(dated.getId(), undated.get(1).getId(), undated.get(0).getId());
+    }
+
+    @Test
+    void cursorFeedSkipsCount() {
+        assertThat(statements(() -> reviewService.getFeedByCursor(null, null, null, "", 2, null))).isEqualTo(1);
+    }
+
+    @Test
+    void signedInViewersAreResolvedWithoutUserLookups() {
+        Long viewerId = newUser().getId();
+        String query = review.getVehicleModel();
+        assertThat(statements(() -> reviewService.search(query, 0, 2, viewerId, false))).isEqualTo(3);
+    }
+
+    @Test
+    void viewerStateIsLoadedInStageTransactionsOutsideTheCallersTransaction() {
+        User viewer = newUser();
+        reviewService.likeReview(review.getId(), viewer.getId());
+        ReviewListResponse[] response = new ReviewListResponse[1];
+        assertThat(transactions(() -> response[0] = reviewService.getFeedByCursor(null, null, null, "", 1, viewer.getId()))).isEqualTo(3);
+        assertThat(response[0].getReviews()).extracting(ReviewSummaryDto::getId, ReviewSummaryDto::getLiked).containsExactly(tuple(review.getId(), true));
+    }
+
+    @Test
+    void mostViewedUsesSingleSummaryQuery() {
+        assertThat(statements(() -> reviewService.mostViewed(5, null))).isEqualTo(1);
+    }
+
+    @Test
+    void authorListingLoadsAuthorOnce() {
+        assertThat(statements(() -> reviewService.listPublicByAuthor(author.getId(), 0, 10, null))).isEqualTo(2);
+    }
+
+    @Test
+    void adminStatusListing() {
+        assertThat(statements(() -> reviewService.listByStatus(ReviewStatus.APPROVED, 0, 2))).isEqualTo(2);
+    }
+
+    @Test
+    void detailFetchesAuthorAndBrandWithReview() {
+        assertThat(statements(() -> reviewService.getPublic(review.getId(), null, null))).isEqualTo(1);
+    }
+
+    @Test
+    void detailBySlugFetchesAuthorAndBrandWithReview() {
+        assertThat(statements(() -> reviewService.getPublicBySlug(review.getSlug(), null, null))).isEqualTo(1);
+    }
+
+    @Test
+    void adminDetail() {
+        assertThat(statements(() -> reviewService.getAdmin(review.getId()))).isEqualTo(1);
+    }
+}
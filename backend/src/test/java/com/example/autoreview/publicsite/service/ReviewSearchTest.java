@@ -0,0 +1,90 @@
+package com.example.autoreview.publicsite.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.autoreview.domain.Review;
+import com.example.autoreview.domain.ReviewStatus;
+import com.example.autoreview.domain.User;
+import com.example.autoreview.domain.VehicleBrand;
+import com.example.autoreview.publicsite.dto.response.ReviewListResponse;
+import com.example.autoreview.publicsite.dto.response.ReviewSummaryDto;
+import com.example.autoreview.publicsite.dto.response.SuggestionDto;
+import com.example.autoreview.security.Roles;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ReviewSearchTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private SearchResultCache searchResultCache;
+
+    private User admin;
+    private VehicleBrand brand;
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        admin = newUser(Roles.ADMIN);
+        brand = newBrand();
+        review = newReview(newUser(), brand, word(), ReviewStatus.APPROVED);
+    }
+
+    @Test
+    void searchPageLoadsOnlyMatchedSummaries() {
+        assertThat(statements(() -> reviewService.search(brand.getName(), 0, 2, null, false))).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedSearchesReuseCachedPagesUntilApprovalsChange() {
+        String query = brand.getName() + " " + review.getVehicleModel();
+        reviewService.search("  " + query.toUpperCase() + " ", 0, 10, null, false);
+        String key = SearchResultCache.key(query, 0, 10, false);
+        SearchResultCache.Page cached = searchResultCache.get(key);
+        assertThat(cached).isNotNull();
+        assertThat(cached.ids()).containsExactly(review.getId());
+        assertThat(statements(() -> reviewService.search(query, 0, 10, null, false))).isEqualTo(1);
+        reviewService.setStatus(review.getId(), principal(admin), ReviewStatus.REJECTED);
+        assertThat(searchResultCache.get(key)).isNull();
+        assertThat(reviewService.search(query, 0, 10, null, false).getReviews()).isEmpty();
+    }
+
+    @Test
+    void misspelledModelsAreRewrittenWithDidYouMean() {
+        String brandName = brand.getName();
+        String model = review.getVehicleModel();
+        String misspelled = brandName.substring(0, 3) + brandName.substring(4) + " " + model.substring(0, 5) + model.substring(6);
+        ReviewListResponse response = reviewService.search(misspelled, 0, 10, null, false);
+        assertThat(response.getDidYouMean()).isEqualTo(brandName + " " + model);
+        assertThat(response.getReviews()).extracting(ReviewSummaryDto::getId).containsExactly(review.getId());
+        assertThat(reviewService.search(model, 0, 10, null, false).getDidYouMean()).isNull();
+        assertThat(FuzzyVocabulary.distance("vinfats", "vinfast")).isEqualTo(1);
+    }
+
+    @Test
+    void suggestionsAreServedFromMemory() {
+        List<SuggestionDto> suggestions = new ArrayList<>();
+        String prefix = brand.getName().substring(0, 5);
+        assertThat(statements(() -> suggestions.addAll(reviewService.suggest(prefix, 5)))).isZero();
+        assertThat(suggestions).isNotEmpty();
+        assertThat(suggestions).allSatisfy(suggestion -> assertThat(suggestion.getText()).containsIgnoringCase(brand.getName()));
+        assertThat(suggestions).extracting(SuggestionDto::getType).contains("BRAND", "TITLE");
+    }
+
+    @Test
+    void searchIndexFollowsStatusChangesAndKeepsFieldWeights() {
+        Review excerptOnly = newReview(newUser(), ReviewStatus.APPROVED);
+        excerptOnly.setExcerpt("So sánh với " + brand.getName());
+        reviewRepository.save(excerptOnly);
+        reviewSearchIndexer.refresh(excerptOnly.getId());
+        List<ReviewSummaryDto> hits = reviewService.search(brand.getName(), 0, 10, null, false).getReviews();
+        assertThat(hits).extracting(ReviewSummaryDto::getId).containsExactly(review.getId(), excerptOnly.getId());
+        reviewService.setStatus(review.getId(), principal(admin), ReviewStatus.REJECTED);
+        assertThat(reviewService.search(brand.getName(), 0, 10, null, false).getReviews()).extracting(ReviewSummaryDto::getId).doesNotContain(review.getId());
+        reviewService.restoreRejected(review.getId(), principal(admin));
+        reviewService.setStatus(review.getId(), principal(admin), ReviewStatus.APPROVED);
+        assertThat(reviewService.search(brand.getName(), 0, 10, null, false).getReviews()).extracting(ReviewSummaryDto::getId).contains(review.getId());
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.autoreview.publicsite.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ReviewViewerFilterTest {
+
+    private static final int EXPECTED_VIEWERS = 1000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final ReviewViewerFilter filter = new ReviewViewerFilter(30, 5000, EXPECTED_VIEWERS, FALSE_POSITIVE_RATE);
+
+    @Test
+    void falsePositiveRateStaysWithinTargetAtConfiguredLoad() {
+        assertThat(falsePositiveRate(1L, EXPECTED_VIEWERS)).isLessThanOrEqualTo(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    void falsePositiveRateStaysWithinTargetWhenReviewOutgrowsConfiguredLoad() {
+        assertThat(falsePositiveRate(2L, EXPECTED_VIEWERS * 20)).isLessThanOrEqualTo(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    void repeatViewsAreNotCountedAgain() {
+        for (int i = 0; i < EXPECTED_VIEWERS * 5; i++) {
+            filter.firstView(3L, "viewer-" + i);
+        }
+        for (int i = 0; i < EXPECTED_VIEWERS * 5; i++) {
+            assertThat(filter.firstView(3L, "viewer-" + i)).isFalse();
+        }
+    }
+
+    private double falsePositiveRate(Long reviewId, int viewers) {
+        for (int i = 0; i < viewers; i++) {
+            filter.firstView(reviewId, "viewer-" + i);
+        }
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (!filter.firstView(reviewId, "probe-" + i)) {
+                falsePositives++;
+            }
+        }
+        return (double) falsePositives / probes;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.autoreview.publicsite.service;
+
+import com.example.autoreview.domain.Review;
+import com.example.autoreview.domain.ReviewStatus;
+import com.example.autoreview.domain.User;
+import com.example.autoreview.domain.VehicleBrand;
+import com.example.autoreview.repository.ReviewRepository;
+import com.example.autoreview.repository.UserRepository;
+import com.example.autoreview.repository.VehicleBrandRepository;
+import com.example.autoreview.security.AuthenticatedUser;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.util.StringUtils;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:services;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.notifications.outbox.dispatch-on-commit=false",
+        "app.notifications.outbox.poll-interval-ms=3600000",
+        "app.notifications.retention.unread-max-per-user=5",
+        "app.notifications.retention.batch-size=2",
+        "app.notifications.retention.batch-pause-ms=0"
+})
+@AutoConfigureMockMvc
+abstract class ServiceIntegrationTest {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final long WORD_SPACE = 308_915_776L;
+
+    @Autowired
+    protected ReviewService reviewService;
+
+    @Autowired
+    protected ReviewRepository reviewRepository;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected VehicleBrandRepository vehicleBrandRepository;
+
+    @Autowired
+    protected ReviewSearchIndexer reviewSearchIndexer;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected long statements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    protected long transactions(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getTransactionCount();
+    }
+
+    protected static String word() {
+        long value = (SEQUENCE.incrementAndGet() * 7_919L + 104_729L) % WORD_SPACE;
+        StringBuilder word = new StringBuilder("zq");
+        for (int i = 0; i < 6; i++) {
+            word.append((char) ('a' + value % 26));
+            value /= 26;
+        }
+        return word.toString();
+    }
+
+    protected User newUser(String... roles) {
+        String name = word();
+        User user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPasswordHash("x");
+        user.setRoles(new HashSet<>(Set.of(roles)));
+        user.setFollowers(0);
+        user.setReviewCount(0);
+        user.setCreatedAt(Instant.now());
+        user.setUpdatedAt(Instant.now());
+        return userRepository.save(user);
+    }
+
+    protected static AuthenticatedUser principal(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getUsername(), Set.copyOf(user.getRoles()));
+    }
+
+    protected VehicleBrand newBrand() {
+        VehicleBrand brand = new VehicleBrand();
+        brand.setName(StringUtils.capitalize(word()));
+        brand.setFeatured(false);
+        brand.setSortOrder(100);
+        return vehicleBrandRepository.save(brand);
+    }
+
+    protected Review newReview(User author, ReviewStatus status) {
+        return newReview(author, newBrand(), StringUtils.capitalize(word()), status);
+    }
+
+    protected Review newReview(User author, VehicleBrand brand, String model, ReviewStatus status) {
+        Instant now = Instant.now();
+        Review review = new Review();
+        review.setTitle(brand.getName() + " " + model + " Review");
+        review.setSlug(word());
+        review.setExcerpt("Fixture review");
+        review.setContent("Fixture review");
+        review.setVehicleModel(model);
+        review.setVehicleYear(2024);
+        review.setFuelType("Xăng");
+        review.setPriceSegment("50 triệu/mua");
+        review.setLikes(0);
+        review.setCommentsCount(0);
+        review.setViews(0);
+        review.setStatus(status);
+        review.setCreatedAt(now);
+        review.setUpdatedAt(now);
+        review.setPublishedAt(status == ReviewStatus.APPROVED ? now : null);
+        review.setAuthor(author);
+        review.setBrand(brand);
+        if (status == ReviewStatus.APPROVED) {
+            author.setReviewCount(author.getReviewCount() + 1);
+            review.setAuthor(userRepository.save(author));
+        }
+        review = reviewRepository.save(review);
+        reviewSearchIndexer.refresh(review.getId());
+        return review;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.autoreview.publicsite.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.autoreview.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+
+class UnreadNotificationCounterTest {
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final UnreadNotificationCounter counter = new UnreadNotificationCounter(notificationRepository, 100, 300);
+
+    @Test
+    void deltaArrivingDuringLoadIsNotOverwrittenByTheLoadedCount() {
+        when(notificationRepository.countByRecipientIdAndReadFlagFalse(1L))
+                .thenAnswer(invocation -> {
+                    counter.added(1L, 1);
+                    return 3L;
+                })
+                .thenReturn(4L);
+        assertThat(counter.unread(1L)).isEqualTo(3);
+        assertThat(counter.unread(1L)).isEqualTo(4);
+        counter.added(1L, 1);
+        assertThat(counter.unread(1L)).isEqualTo(5);
+    }
+}
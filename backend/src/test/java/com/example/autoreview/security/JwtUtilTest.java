@@ -0,0 +1,68 @@
+package com.example.autoreview.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "b8dbd1c4f7a04873ad2b2719f5e6a93f3a99a9bf3f2c4d6e9c8e7f0d1c2b3a4";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60, "auto-review", 2, clock);
+
+    @Test
+    void repeatedTokensReuseVerifiedPrincipalUntilExpiry() {
+        String token = jwtUtil.generateToken(7L, "user@example.com", "user", Set.of("ROLE_USER"));
+        assertThat(jwtUtil.verify(token)).isSameAs(jwtUtil.verify(token));
+        assertThat(jwtUtil.verify(token)).isEqualTo(new AuthenticatedUser(7L, "user@example.com", "user", Set.of("ROLE_USER")));
+        clock.advance(Duration.ofMinutes(61));
+        assertThatThrownBy(() -> jwtUtil.verify(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void tamperedTokensAreNeverServedFromTheCache() {
+        String token = jwtUtil.generateToken(7L, "user@example.com", "user", Set.of("ROLE_USER"));
+        jwtUtil.verify(token);
+        int signature = token.lastIndexOf('.') + 1;
+        String tampered = token.substring(0, signature) + (token.charAt(signature) == 'A' ? 'B' : 'A') + token.substring(signature + 1);
+        assertThatThrownBy(() -> jwtUtil.verify(tampered)).isInstanceOf(SignatureException.class);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}